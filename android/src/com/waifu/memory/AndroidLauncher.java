@@ -33,6 +33,8 @@ public class AndroidLauncher extends AndroidApplication implements IQWaifuMemory
         config.useImmersiveMode = true;
         config.useAccelerometer = false;
         config.useCompass = false;
+        // GLES 3.0 para texturas ETC2 (si no está disponible, libGDX usa GLES 2.0)
+        config.useGL30 = true;
 
         MobileAds.initialize(this, status -> {
             loadRewardedAd();
@@ -0,0 +1,40 @@
+package com.waifu.memory.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import java.io.File;
+
+/**
+ * Utilidades comunes: carpeta de assets y aplicación headless para lo que usa Gdx.app.
+ */
+final class Benchmarks {
+
+    private static HeadlessApplication application;
+
+    private Benchmarks() {
+    }
+
+    /**
+     * Carpeta assets del proyecto; build.gradle la pasa como -Dwaifu.assets.
+     */
+    static File assetsDir() {
+        return new File(System.getProperty("waifu.assets", "../assets"));
+    }
+
+    static synchronized void startHeadless() {
+        if (application != null) return;
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1; // sin bucle de render: solo Gdx.app, Gdx.files y preferencias
+        config.preferencesDirectory = new File(System.getProperty("java.io.tmpdir"), "iqwaifu-benchmarks").getPath();
+        application = new HeadlessApplication(new ApplicationAdapter() {
+        }, config);
+    }
+
+    static synchronized void stopHeadless() {
+        if (application == null) return;
+        application.exit();
+        application = null;
+    }
+}
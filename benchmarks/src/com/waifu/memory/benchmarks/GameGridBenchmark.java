@@ -0,0 +1,84 @@
+package com.waifu.memory.benchmarks;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.waifu.memory.entities.Card;
+import com.waifu.memory.entities.GameGrid;
+import com.waifu.memory.utils.Constants;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Caminos calientes del tablero: construcción, toque, barajado y pista.
+ * GameGrid se crea sin texturas, igual que en la simulación.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameGridBenchmark {
+
+    private static final int TOUCH_POINTS = 256;
+
+    @Param({"4", "6", "8"})
+    public int gridSize;
+
+    private int[] pool;
+    private RandomXS128 random;
+    private GameGrid grid;
+
+    private float[] touchX;
+    private float[] touchY;
+    private int touchIndex;
+
+    @Setup
+    public void setup() {
+        pool = new int[Math.min(Constants.TOTAL_CHARACTERS, gridSize * gridSize / 2)];
+        for (int i = 0; i < pool.length; i++) pool[i] = i;
+
+        random = new RandomXS128(42L);
+        grid = new GameGrid(gridSize, pool, new RandomXS128(7L));
+
+        // Mitad centros de carta, mitad puntos al azar (huecos y fuera del grid)
+        touchX = new float[TOUCH_POINTS];
+        touchY = new float[TOUCH_POINTS];
+        int cells = gridSize * gridSize;
+        for (int i = 0; i < TOUCH_POINTS; i++) {
+            if ((i & 1) == 0) {
+                Card card = grid.getCardInCell(random.nextInt(cells));
+                touchX[i] = card.getX() + card.getWidth() / 2f;
+                touchY[i] = card.getY() + card.getHeight() / 2f;
+            } else {
+                touchX[i] = random.nextFloat() * Constants.WORLD_WIDTH;
+                touchY[i] = random.nextFloat() * Constants.WORLD_HEIGHT;
+            }
+        }
+    }
+
+    @Benchmark
+    public GameGrid construct() {
+        return new GameGrid(gridSize, pool, random);
+    }
+
+    @Benchmark
+    public Card getCardAt() {
+        int i = touchIndex++ & (TOUCH_POINTS - 1);
+        return grid.getCardAt(touchX[i], touchY[i]);
+    }
+
+    @Benchmark
+    public GameGrid shuffleUnmatched() {
+        grid.shuffleUnmatched();
+        return grid;
+    }
+
+    @Benchmark
+    public boolean triggerHintShake() {
+        return grid.triggerHintShake();
+    }
+}
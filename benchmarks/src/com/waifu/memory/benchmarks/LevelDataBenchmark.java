@@ -0,0 +1,52 @@
+package com.waifu.memory.benchmarks;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.waifu.memory.data.LevelConfig;
+import com.waifu.memory.data.LevelDatabase;
+import com.waifu.memory.data.PlayerData;
+import com.waifu.memory.systems.EconomyManager;
+import com.waifu.memory.utils.Constants;
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Configuración de niveles y recompensas: código puro, sin aplicación libGDX.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LevelDataBenchmark {
+
+    private LevelDatabase database;
+    private PlayerData player;
+    private LevelConfig config;
+    private int level;
+
+    @Setup
+    public void setup() {
+        database = new LevelDatabase(new FileHandle(new File(Benchmarks.assetsDir(), Constants.LEVELS_JSON_PATH)));
+        database.get(1); // carga de levels.json fuera de la medida
+
+        player = new PlayerData();
+        player.pairValueLevel = 3;
+        config = database.get(Constants.TOTAL_LEVELS);
+    }
+
+    @Benchmark
+    public LevelConfig levelDatabaseGet() {
+        level = level % Constants.TOTAL_LEVELS + 1;
+        return database.get(level);
+    }
+
+    @Benchmark
+    public EconomyManager.RewardBreakdown calculateVictoryReward() {
+        return EconomyManager.calculateVictoryReward(player, config, config.totalPairs(), 37.5f);
+    }
+}
@@ -0,0 +1,62 @@
+package com.waifu.memory.benchmarks;
+
+import com.waifu.memory.data.PlayerData;
+import com.waifu.memory.managers.LocalizationManager;
+import com.waifu.memory.managers.SaveManager;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Managers que necesitan Gdx.app (preferencias): corren sobre el backend headless.
+ * Solo se mide la serialización de PlayerData, no la escritura de preferencias.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ManagersBenchmark {
+
+    private SaveManager saveManager;
+    private LocalizationManager localization;
+    private PlayerData player;
+    private String playerJson;
+
+    @Setup
+    public void setup() {
+        Benchmarks.startHeadless();
+
+        saveManager = new SaveManager();
+        localization = new LocalizationManager();
+
+        player = new PlayerData();
+        for (int i = 0; i < 40; i++) player.galleryUnlocks.put("char_" + i + "_1", Boolean.TRUE);
+        player.totalGamesPlayed = 1234;
+        playerJson = saveManager.toJson(player);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Benchmarks.stopHeadless();
+    }
+
+    @Benchmark
+    public String playerDataToJson() {
+        return saveManager.toJson(player);
+    }
+
+    @Benchmark
+    public PlayerData playerDataFromJson() {
+        return saveManager.fromJson(playerJson);
+    }
+
+    @Benchmark
+    public String localizationGet() {
+        return localization.get("pairs");
+    }
+}
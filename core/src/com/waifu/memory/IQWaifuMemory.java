@@ -3,12 +3,17 @@ package com.waifu.memory;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.waifu.memory.data.PlayerData;
 import com.waifu.memory.managers.AssetManager;
 import com.waifu.memory.managers.AudioManager;
+import com.waifu.memory.managers.LocalizationManager;
 import com.waifu.memory.managers.SaveManager;
+import com.waifu.memory.managers.UiResourceManager;
+import com.waifu.memory.replay.ReplayRunner;
 import com.waifu.memory.screens.HomeScreen;
 import com.waifu.memory.utils.Constants;
+import com.waifu.memory.utils.PerfHud;
 
 /**
  * Clase principal del juego IQ Waifu Memory
@@ -20,11 +25,18 @@ public class IQWaifuMemory extends Game {
     private AssetManager assetManager;
     private AudioManager audioManager;
     private SaveManager saveManager;
+    private LocalizationManager localization;
+    private UiResourceManager uiResources;
     
     private PlayerData playerData;
     
+    private PerfHud perfHud;
+    
     private AdHandler adHandler;
     
+    // Ruta absoluta de una partida grabada a reproducir al arrancar (solo desktop)
+    private String startupReplayPath;
+    
     /**
      * Interface para manejo de anuncios
      * Implementada por la plataforma (Android/iOS)
@@ -51,14 +63,18 @@ public class IQWaifuMemory extends Game {
     @Override
     public void create() {
         Gdx.app.log(Constants.TAG, "IQ Waifu Memory v" + Constants.VERSION + " starting...");
+        long startTime = TimeUtils.millis();
         
         batch = new SpriteBatch();
         
         assetManager = new AssetManager();
         audioManager = new AudioManager();
         saveManager = new SaveManager();
+        localization = new LocalizationManager();
+        uiResources = new UiResourceManager(localization);
         
         assetManager.loadEssentialAssets();
+        Gdx.app.log(Constants.TAG, "Essential assets loaded in " + TimeUtils.timeSinceMillis(startTime) + " ms");
         
         // FIX: Usar los métodos correctos de SaveManager
         saveManager.load();
@@ -74,9 +90,34 @@ public class IQWaifuMemory extends Game {
         audioManager.setMusicVolume(playerData.musicVolume);
         audioManager.setSfxVolume(playerData.sfxVolume);
         
-        setScreen(new HomeScreen(this));
+        perfHud = new PerfHud(batch, assetManager);
+        perfHud.setHudEnabled(playerData.perfHudEnabled);
+        perfHud.setCsvEnabled(playerData.perfCsvEnabled);
+        
+        if (startupReplayPath == null || !ReplayRunner.start(this, Gdx.files.absolute(startupReplayPath))) {
+            setScreen(new HomeScreen(this));
+        }
+        
+        Gdx.app.log(Constants.TAG, "Game initialized successfully in " + TimeUtils.timeSinceMillis(startTime) + " ms");
+    }
+    
+    @Override
+    public void render() {
+        if (perfHud != null) perfHud.beginFrame();
+        
+        // Subidas a GPU pendientes de las cargas asíncronas
+        if (assetManager != null) assetManager.update();
+        super.render();
+        
+        if (perfHud != null) perfHud.endFrame();
+    }
+    
+    @Override
+    public void pause() {
+        super.pause();
         
-        Gdx.app.log(Constants.TAG, "Game initialized successfully");
+        // Tras pause() el sistema puede matar el proceso sin llamar a dispose()
+        if (perfHud != null) perfHud.flushCsv();
     }
     
     public void setAdHandler(AdHandler handler) {
@@ -84,6 +125,10 @@ public class IQWaifuMemory extends Game {
         Gdx.app.log(Constants.TAG, "Ad handler configured");
     }
     
+    public void setStartupReplay(String absolutePath) {
+        this.startupReplayPath = absolutePath;
+    }
+    
     public boolean hasAdHandler() {
         return adHandler != null;
     }
@@ -115,16 +160,29 @@ public class IQWaifuMemory extends Game {
         return saveManager;
     }
     
+    public LocalizationManager getLocalization() {
+        return localization;
+    }
+    
+    public UiResourceManager getUiResources() {
+        return uiResources;
+    }
+    
     public PlayerData getPlayerData() {
         return playerData;
     }
     
+    public PerfHud getPerfHud() {
+        return perfHud;
+    }
+    
     @Override
     public void dispose() {
         Gdx.app.log(Constants.TAG, "Disposing game resources...");
         
         savePlayerData();
         
+        if (perfHud != null) perfHud.dispose();
         if (batch != null) batch.dispose();
         if (assetManager != null) assetManager.dispose();
         if (audioManager != null) audioManager.dispose();
@@ -133,6 +191,9 @@ public class IQWaifuMemory extends Game {
             getScreen().dispose();
         }
         
+        // Después de la pantalla, que libera aquí sus fuentes
+        if (uiResources != null) uiResources.dispose();
+        
         Gdx.app.log(Constants.TAG, "Game disposed");
     }
 }
\ No newline at end of file
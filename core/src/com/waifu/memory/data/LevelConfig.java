@@ -37,6 +37,17 @@ public class LevelConfig {
         return (gridSize * gridSize) / 2;
     }
 
+    /**
+     * Ids de personaje disponibles en este nivel: los primeros poolCount
+     * (al menos uno por par, como máximo TOTAL_CHARACTERS).
+     */
+    public int[] buildCharacterPool() {
+        int c = Math.max(1, clampPoolCount());
+        int[] pool = new int[c];
+        for (int i = 0; i < c; i++) pool[i] = i;
+        return pool;
+    }
+
     public int clampPoolCount() {
         int minNeeded = totalPairs();
         int c = poolCount;
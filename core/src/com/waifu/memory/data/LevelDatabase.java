@@ -1,6 +1,7 @@
 package com.waifu.memory.data;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.waifu.memory.utils.Constants;
@@ -9,18 +10,31 @@ public class LevelDatabase {
 
     private boolean loaded = false;
     private final JsonValue[] overrides = new JsonValue[Constants.TOTAL_LEVELS + 1];
+    private final FileHandle levelsFile;
+
+    public LevelDatabase() {
+        this(null);
+    }
+
+    /**
+     * Lee los overrides de levelsFile en lugar de Constants.LEVELS_JSON_PATH.
+     * Permite usarla fuera de una aplicación libGDX (herramientas de balance).
+     */
+    public LevelDatabase(FileHandle levelsFile) {
+        this.levelsFile = levelsFile;
+    }
 
     private void loadIfNeeded() {
         if (loaded) return;
         loaded = true;
 
-        String path = Constants.LEVELS_JSON_PATH;
-        if (!Gdx.files.internal(path).exists()) {
+        FileHandle file = levelsFile != null ? levelsFile : Gdx.files.internal(Constants.LEVELS_JSON_PATH);
+        if (!file.exists()) {
             return;
         }
 
         try {
-            String text = Gdx.files.internal(path).readString("UTF-8");
+            String text = file.readString("UTF-8");
             JsonValue root = new JsonReader().parse(text);
 
             JsonValue levels = root.get("levels");
@@ -21,6 +21,10 @@ public class PlayerData {
     public float sfxVolume;
     public String language;
 
+    // Overlay de rendimiento y CSV de métricas (Ajustes)
+    public boolean perfHudEnabled;
+    public boolean perfCsvEnabled;
+
     public int totalGamesPlayed;
     public int totalPairsFound;
     public int totalVictories;
@@ -56,6 +60,9 @@ public class PlayerData {
         sfxVolume = Constants.DEFAULT_SFX_VOLUME;
         language = "es";
 
+        perfHudEnabled = false;
+        perfCsvEnabled = false;
+
         totalGamesPlayed = 0;
         totalPairsFound = 0;
         totalVictories = 0;
@@ -0,0 +1,309 @@
+package com.waifu.memory.entities;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.waifu.memory.utils.Constants;
+
+/**
+ * Estado de todas las cartas de un grid en arrays primitivos (una posición por carta).
+ * Card es solo una vista sobre un índice de este store.
+ * update() recorre únicamente el conjunto activo: cartas volteándose, con el
+ * rebote de emparejado o temblando. El brillo de las emparejadas se calcula
+ * al dibujar a partir del reloj, así que no las mantiene activas.
+ */
+class CardStore {
+
+    static final float MATCH_GLOW_SPEED = 1.5f;
+    static final float MATCH_GLOW_MIN = 0.1f;
+    static final float MATCH_GLOW_MAX = 0.4f;
+    static final float MATCH_SCALE_DURATION = 0.3f;
+    static final float MATCH_SCALE_PEAK = 1.1f;
+    static final float SHAKE_FREQUENCY = 40f;
+
+    private final float flipSpeed = 1f / Constants.CARD_FLIP_TIME;
+
+    final int capacity;
+    int size;
+
+    final float[] x, y, width, height;
+    final int[] characterId, rarity, gridIndex;
+    final TextureRegion[] frontRegion, backRegion, frameRegion;
+    // Regiones propias para las texturas sueltas: setTexture reutiliza la del slot
+    private final TextureRegion[] ownFront, ownBack, ownFrame;
+
+    final boolean[] revealed, matched, animating;
+    final float[] flipProgress, flipDirection;
+
+    final float[] matchedAt;
+    final float[] matchScaleTimer;
+
+    final float[] shakeTimeLeft, shakeDuration, shakeAmplitude, shakeElapsed;
+
+    // Conjunto activo: índices en active[0..activeCount), activeSlot[i] = posición o -1
+    private final int[] active;
+    private final int[] activeSlot;
+    private int activeCount;
+
+    private float clock;
+
+    // Contadores incrementales: se actualizan en add, setMatched y reset
+    private int unmatchedCount;
+    private final IntIntMap remainingByCharacter = new IntIntMap();
+    private int charactersRemaining;  // personajes con alguna carta sin emparejar
+    private int charactersWithPair;   // personajes con dos o más cartas sin emparejar
+
+    CardStore(int capacity) {
+        this.capacity = capacity;
+
+        x = new float[capacity];
+        y = new float[capacity];
+        width = new float[capacity];
+        height = new float[capacity];
+
+        characterId = new int[capacity];
+        rarity = new int[capacity];
+        gridIndex = new int[capacity];
+
+        frontRegion = new TextureRegion[capacity];
+        backRegion = new TextureRegion[capacity];
+        frameRegion = new TextureRegion[capacity];
+        ownFront = newRegions(capacity);
+        ownBack = newRegions(capacity);
+        ownFrame = newRegions(capacity);
+
+        revealed = new boolean[capacity];
+        matched = new boolean[capacity];
+        animating = new boolean[capacity];
+        flipProgress = new float[capacity];
+        flipDirection = new float[capacity];
+
+        matchedAt = new float[capacity];
+        matchScaleTimer = new float[capacity];
+
+        shakeTimeLeft = new float[capacity];
+        shakeDuration = new float[capacity];
+        shakeAmplitude = new float[capacity];
+        shakeElapsed = new float[capacity];
+
+        active = new int[capacity];
+        activeSlot = new int[capacity];
+    }
+
+    int add(int charId, int cardRarity) {
+        if (size >= capacity) throw new IllegalStateException("CardStore full: " + capacity);
+
+        int i = size++;
+        characterId[i] = charId;
+        rarity[i] = cardRarity;
+        width[i] = Constants.CARD_WORLD_WIDTH;
+        height[i] = Constants.CARD_WORLD_HEIGHT;
+        activeSlot[i] = -1;
+        matched[i] = true; // reset() la cuenta como sin emparejar
+        reset(i);
+        return i;
+    }
+
+    void reset(int i) {
+        if (matched[i]) countUnmatched(i, 1);
+        revealed[i] = false;
+        matched[i] = false;
+        animating[i] = false;
+        flipProgress[i] = 0f;
+        flipDirection[i] = 0f;
+
+        matchedAt[i] = 0f;
+        matchScaleTimer[i] = MATCH_SCALE_DURATION;
+
+        clearShake(i);
+        deactivate(i);
+    }
+
+    private void countUnmatched(int i, int delta) {
+        int id = characterId[i];
+        int before = remainingByCharacter.get(id, 0);
+        int after = before + delta;
+        remainingByCharacter.put(id, after);
+        unmatchedCount += delta;
+
+        if (before == 0 && after > 0) charactersRemaining++;
+        else if (before > 0 && after == 0) charactersRemaining--;
+
+        if (before < 2 && after >= 2) charactersWithPair++;
+        else if (before >= 2 && after < 2) charactersWithPair--;
+    }
+
+    int getUnmatchedCount() {
+        return unmatchedCount;
+    }
+
+    int getMatchedCount() {
+        return size - unmatchedCount;
+    }
+
+    int getRemaining(int charId) {
+        return remainingByCharacter.get(charId, 0);
+    }
+
+    int getCharactersRemaining() {
+        return charactersRemaining;
+    }
+
+    int getCharactersWithPair() {
+        return charactersWithPair;
+    }
+
+    int getActiveCount() {
+        return activeCount;
+    }
+
+    void activate(int i) {
+        if (activeSlot[i] >= 0) return;
+        activeSlot[i] = activeCount;
+        active[activeCount++] = i;
+    }
+
+    private void deactivate(int i) {
+        int slot = activeSlot[i];
+        if (slot < 0) return;
+
+        int last = active[--activeCount];
+        active[slot] = last;
+        activeSlot[last] = slot;
+        activeSlot[i] = -1;
+    }
+
+    private boolean needsUpdate(int i) {
+        return animating[i] || shakeTimeLeft[i] > 0f || (matched[i] && matchScaleTimer[i] < MATCH_SCALE_DURATION);
+    }
+
+    private static TextureRegion[] newRegions(int capacity) {
+        TextureRegion[] regions = new TextureRegion[capacity];
+        for (int i = 0; i < capacity; i++) regions[i] = new TextureRegion();
+        return regions;
+    }
+
+    /**
+     * Región de toda la textura en la región propia del slot, sin crear objetos.
+     * Nunca se escribe sobre una región externa (atlas) asignada con setRegion.
+     */
+    private static TextureRegion wrap(TextureRegion[] own, int i, Texture texture) {
+        if (texture == null) return null;
+        TextureRegion region = own[i];
+        region.setRegion(texture);
+        return region;
+    }
+
+    void setFrontTexture(int i, Texture texture) {
+        frontRegion[i] = wrap(ownFront, i, texture);
+    }
+
+    void setBackTexture(int i, Texture texture) {
+        backRegion[i] = wrap(ownBack, i, texture);
+    }
+
+    void setFrameTexture(int i, Texture texture) {
+        frameRegion[i] = wrap(ownFrame, i, texture);
+    }
+
+    void update(float delta) {
+        clock += delta;
+
+        // Hacia atrás: deactivate mueve el último al hueco ya recorrido
+        for (int s = activeCount - 1; s >= 0; s--) {
+            int i = active[s];
+            updateFlip(i, delta);
+            if (matched[i] && matchScaleTimer[i] < MATCH_SCALE_DURATION) matchScaleTimer[i] += delta;
+            updateShake(i, delta);
+
+            if (!needsUpdate(i)) deactivate(i);
+        }
+    }
+
+    private void updateFlip(int i, float delta) {
+        if (!animating[i]) return;
+
+        flipProgress[i] += flipDirection[i] * flipSpeed * delta;
+
+        if (flipProgress[i] >= 1f) {
+            flipProgress[i] = 1f;
+            animating[i] = false;
+            revealed[i] = true;
+        } else if (flipProgress[i] <= 0f) {
+            flipProgress[i] = 0f;
+            animating[i] = false;
+            revealed[i] = false;
+        }
+    }
+
+    private void updateShake(int i, float delta) {
+        if (shakeTimeLeft[i] <= 0f) return;
+        shakeTimeLeft[i] -= delta;
+        shakeElapsed[i] += delta;
+        if (shakeTimeLeft[i] <= 0f) clearShake(i);
+    }
+
+    private void clearShake(int i) {
+        shakeTimeLeft[i] = 0f;
+        shakeDuration[i] = 0f;
+        shakeAmplitude[i] = 0f;
+        shakeElapsed[i] = 0f;
+    }
+
+    void startFlip(int i, float direction) {
+        animating[i] = true;
+        flipDirection[i] = direction;
+        activate(i);
+    }
+
+    void setMatched(int i, boolean value) {
+        if (matched[i] != value) countUnmatched(i, value ? -1 : 1);
+        matched[i] = value;
+        matchedAt[i] = clock;
+        matchScaleTimer[i] = value ? 0f : MATCH_SCALE_DURATION;
+        if (value) activate(i);
+    }
+
+    void triggerShake(int i, float durationSeconds, float amplitudeWorldUnits) {
+        shakeDuration[i] = durationSeconds;
+        shakeTimeLeft[i] = durationSeconds;
+        shakeAmplitude[i] = amplitudeWorldUnits;
+        shakeElapsed[i] = 0f;
+        activate(i);
+    }
+
+    /**
+     * Brillo de una carta emparejada: rebota entre MIN y MAX a MATCH_GLOW_SPEED
+     * desde el momento del emparejado.
+     */
+    float getGlowAlpha(int i) {
+        if (!matched[i]) return 0f;
+        float range = MATCH_GLOW_MAX - MATCH_GLOW_MIN;
+        float phase = ((clock - matchedAt[i]) * MATCH_GLOW_SPEED) % (range * 2f);
+        return MATCH_GLOW_MIN + (phase < range ? phase : range * 2f - phase);
+    }
+
+    float getMatchScale(int i) {
+        float t = matchScaleTimer[i];
+        if (!matched[i] || t >= MATCH_SCALE_DURATION) return 1f;
+
+        float halfDuration = MATCH_SCALE_DURATION / 2f;
+        if (t < halfDuration) {
+            return 1f + (MATCH_SCALE_PEAK - 1f) * (t / halfDuration);
+        }
+        return MATCH_SCALE_PEAK - (MATCH_SCALE_PEAK - 1f) * ((t - halfDuration) / halfDuration);
+    }
+
+    float getShakeOffsetX(int i) {
+        if (shakeTimeLeft[i] <= 0f || shakeDuration[i] <= 0f) return 0f;
+        float fade = shakeTimeLeft[i] / shakeDuration[i];
+        return MathUtils.sin(shakeElapsed[i] * SHAKE_FREQUENCY) * shakeAmplitude[i] * fade;
+    }
+
+    float getShakeOffsetY(int i) {
+        if (shakeTimeLeft[i] <= 0f || shakeDuration[i] <= 0f) return 0f;
+        float fade = shakeTimeLeft[i] / shakeDuration[i];
+        return MathUtils.cos(shakeElapsed[i] * (SHAKE_FREQUENCY * 0.85f)) * (shakeAmplitude[i] * 0.35f) * fade;
+    }
+}
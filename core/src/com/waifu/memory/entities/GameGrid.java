@@ -6,57 +6,112 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.IntMap;
-import com.waifu.memory.screens.GameScreen;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.waifu.memory.managers.AssetManager;
+import com.waifu.memory.managers.TextureHandle;
 import com.waifu.memory.utils.Constants;
 
 public class GameGrid {
 
     private final int gridSize;
     private final int totalCards;
+    private final CardStore store;
     private final Card[] cards;
+    // Carta que ocupa cada celda (fila * gridSize + columna); lo mantiene placeInCell
+    private final Card[] cellCards;
+
+    // Buffers reutilizados por shuffleUnmatched y triggerHintShake: sin basura por llamada
+    private final int[] scratchCards;
+    private final int[] scratchCells;
+    private final IntIntMap hintCounts;
 
-    private final GameScreen gameScreen;
     private final int[] characterPool;
+    // RNG de la partida: con la misma semilla se repiten reparto, barajados y pistas
+    private final RandomXS128 random;
 
     private float gridX, gridY;
     private float cardW, cardH;
     private float spacing;
 
-    private final Texture cardBackTexture;
-    private final Texture baseFrameTexture;
+    // null hasta attachAssets: una simulación sin GL nunca los asigna
+    private AssetManager assetManager;
+    private String assetOwner;
+
+    private TextureAtlas cardAtlas;
+    private final Array<TextureHandle> frontHandles = new Array<>();
+    private boolean disposed;
 
     private static final float HORIZONTAL_PADDING = 80f;
     private static final float VERTICAL_PADDING = 320f;
     private static final float GRID_Y_OFFSET = -40f;
     private static final float BACKGROUND_PADDING = 20f;
 
+    private static final int NO_CHARACTER = -1;
+
     private static final float HINT_SHAKE_DURATION = 0.7f;
     private static final float HINT_SHAKE_AMPLITUDE = 8f;
 
-    public GameGrid(int size, GameScreen gameScreen, int[] characterPool) {
+    /**
+     * Crea el reparto sin texturas ni contexto GL; la pantalla llama a attachAssets
+     * para poder dibujarlo.
+     */
+    public GameGrid(int size, int[] characterPool, RandomXS128 random) {
         this.gridSize = size;
-        this.gameScreen = gameScreen;
+        this.random = random != null ? random : new RandomXS128();
         this.totalCards = size * size;
+        this.store = new CardStore(totalCards);
         this.cards = new Card[totalCards];
+        this.cellCards = new Card[totalCards];
+        this.scratchCards = new int[totalCards];
+        this.scratchCells = new int[totalCards];
+        this.hintCounts = new IntIntMap(totalCards);
         this.characterPool = (characterPool != null && characterPool.length > 0) ? characterPool : null;
 
         calculateLayout();
+        createCards();
+    }
 
-        this.cardBackTexture = gameScreen.getAssetManager().getCardBackTexture();
-        this.baseFrameTexture = gameScreen.getAssetManager().getFrameTexture(0);
+    public GameGrid(int size, int[] characterPool) {
+        this(size, characterPool, null);
+    }
 
-        createCards();
+    public GameGrid(int size) {
+        this(size, null, null);
     }
 
-    public GameGrid(int size, GameScreen gameScreen) {
-        this(size, gameScreen, null);
+    /**
+     * Asigna placeholders a todas las cartas y pide el atlas del nivel.
+     * Los handles de textura que haga falta pedir quedan a nombre de owner.
+     */
+    public void attachAssets(AssetManager assetManager, String owner) {
+        if (this.assetManager != null || disposed) return;
+        this.assetManager = assetManager;
+        this.assetOwner = owner;
+
+        // Placeholder hasta que el atlas del nivel esté listo
+        Texture frontTexture = assetManager.getCharacterPlaceholderTexture();
+        Texture cardBackTexture = assetManager.getCardBackTexture();
+        Texture baseFrameTexture = assetManager.getFrameTexture(0);
+
+        for (Card card : cards) {
+            card.setFrontTexture(frontTexture);
+            card.setBackTexture(cardBackTexture);
+            card.setFrameTexture(baseFrameTexture);
+        }
+
+        requestCardAtlas(getUsedCharacterIds(gridSize, characterPool));
     }
 
-    private void calculateLayout() {
+    /**
+     * Ancho en unidades de mundo de cada carta para un grid de gridSize x gridSize.
+     */
+    public static float calculateCardWidth(int gridSize) {
         float availableWidth = Constants.WORLD_WIDTH - HORIZONTAL_PADDING;
         float availableHeight = Constants.WORLD_HEIGHT - VERTICAL_PADDING;
 
@@ -72,9 +127,36 @@ public class GameGrid {
             maxW = maxH * ratio;
         }
 
-        cardW = maxW;
-        cardH = maxH;
-        spacing = padding;
+        return maxW;
+    }
+
+    /**
+     * Personaje asignado al par pairIndex. Compartido con la precarga del siguiente nivel.
+     */
+    public static int getPairCharacterId(int pairIndex, int[] characterPool) {
+        if (characterPool != null && characterPool.length > 0) {
+            return characterPool[pairIndex % characterPool.length];
+        }
+        return pairIndex % Constants.TOTAL_CHARACTERS;
+    }
+
+    /**
+     * Personajes distintos que aparecerán en un grid de gridSize con este pool.
+     */
+    public static IntArray getUsedCharacterIds(int gridSize, int[] characterPool) {
+        int numPairs = (gridSize * gridSize) / 2;
+        IntArray usedIds = new IntArray(numPairs);
+        for (int i = 0; i < numPairs; i++) {
+            int charId = getPairCharacterId(i, characterPool);
+            if (!usedIds.contains(charId)) usedIds.add(charId);
+        }
+        return usedIds;
+    }
+
+    private void calculateLayout() {
+        cardW = calculateCardWidth(gridSize);
+        cardH = cardW / Constants.CARD_ASPECT_RATIO;
+        spacing = Constants.CARD_PADDING;
 
         float gridWidth = gridSize * cardW + (gridSize - 1) * spacing;
         float gridHeight = gridSize * cardH + (gridSize - 1) * spacing;
@@ -88,12 +170,7 @@ public class GameGrid {
 
         int[] ids = new int[totalCards];
         for (int i = 0; i < numPairs; i++) {
-            int charId;
-            if (characterPool != null) {
-                charId = characterPool[i % characterPool.length];
-            } else {
-                charId = i % Constants.TOTAL_CHARACTERS;
-            }
+            int charId = getPairCharacterId(i, characterPool);
             ids[i * 2] = charId;
             ids[i * 2 + 1] = charId;
         }
@@ -101,29 +178,83 @@ public class GameGrid {
         shuffleArray(ids);
 
         for (int i = 0; i < totalCards; i++) {
-            int charId = ids[i];
+            Card card = new Card(store, store.add(ids[i], 0));
+            card.setSize(cardW, cardH);
+            placeInCell(card, i);
 
-            Texture frontTexture = gameScreen.getAssetManager().getCharacterTexture(charId, 0);
+            cards[i] = card;
+        }
+    }
 
-            Card card = new Card(charId, 0, frontTexture, cardBackTexture, baseFrameTexture);
-            card.setGridIndex(i);
+    /**
+     * Mueve la carta a la celda indicada y actualiza el índice de celdas.
+     */
+    private void placeInCell(Card card, int cell) {
+        int row = cell / gridSize;
+        int col = cell % gridSize;
 
-            int row = i / gridSize;
-            int col = i % gridSize;
+        float x = gridX + col * (cardW + spacing);
+        float y = gridY + (gridSize - 1 - row) * (cardH + spacing);
 
-            float x = gridX + col * (cardW + spacing);
-            float y = gridY + (gridSize - 1 - row) * (cardH + spacing);
+        card.setGridIndex(cell);
+        card.setPosition(x, y);
+        cellCards[cell] = card;
+    }
 
-            card.setPosition(x, y);
-            card.setSize(cardW, cardH);
+    private void requestCardAtlas(IntArray usedIds) {
+        assetManager.buildCardAtlas(
+            usedIds.toArray(),
+            AssetManager.selectTextureTier(cardW),
+            new AssetManager.AtlasListener() {
+                @Override
+                public void onAtlasReady(TextureAtlas atlas) {
+                    if (disposed) {
+                        atlas.dispose();
+                        return;
+                    }
+                    applyCardAtlas(atlas);
+                }
+            });
+    }
 
-            cards[i] = card;
+    private void applyCardAtlas(TextureAtlas atlas) {
+        cardAtlas = atlas;
+
+        TextureRegion back = atlas.findRegion(AssetManager.REGION_CARD_BACK);
+        TextureRegion frame = atlas.findRegion(AssetManager.getFrameRegionName(0));
+
+        for (Card card : cards) {
+            if (card == null) continue;
+
+            if (back != null) card.setBackRegion(back);
+            if (frame != null) card.setFrameRegion(frame);
+
+            TextureRegion front = atlas.findRegion(AssetManager.getCharacterRegionName(card.getCharacterId()));
+            if (front != null) card.setFrontRegion(front);
+            else requestFrontTexture(card);
         }
     }
 
+    private void requestFrontTexture(final Card card) {
+        // Un handle por carta: se sueltan todos en dispose()
+        TextureHandle handle = assetManager.acquireCharacterTextureAsync(card.getCharacterId(), 0, assetOwner,
+            new AssetManager.TextureListener() {
+                @Override
+                public void onTextureLoaded(Texture texture) {
+                    if (!disposed) card.setFrontTexture(texture);
+                }
+            });
+        frontHandles.add(handle);
+        card.setFrontTexture(handle.get());
+    }
+
     private void shuffleArray(int[] array) {
-        for (int i = array.length - 1; i > 0; i--) {
-            int j = MathUtils.random(i);
+        shuffleArray(array, array.length);
+    }
+
+    private void shuffleArray(int[] array, int count) {
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
             int temp = array[i];
             array[i] = array[j];
             array[j] = temp;
@@ -131,48 +262,40 @@ public class GameGrid {
     }
 
     public void shuffleUnmatched() {
-        Array<Integer> unmatched = new Array<>();
+        if (!canShuffle()) return;
+
+        // Se barajan las celdas ocupadas por cartas sin emparejar
+        int count = 0;
         for (int i = 0; i < totalCards; i++) {
             Card c = cards[i];
-            if (c != null && !c.isMatched()) unmatched.add(i);
-        }
-        if (unmatched.size <= 1) return;
-
-        float[] ox = new float[unmatched.size];
-        float[] oy = new float[unmatched.size];
-
-        for (int i = 0; i < unmatched.size; i++) {
-            int idx = unmatched.get(i);
-            ox[i] = cards[idx].getX();
-            oy[i] = cards[idx].getY();
+            if (c == null || c.isMatched()) continue;
+            scratchCards[count] = i;
+            scratchCells[count] = c.getGridIndex();
+            count++;
         }
+        if (count <= 1) return;
 
-        for (int i = unmatched.size - 1; i > 0; i--) {
-            int j = MathUtils.random(i);
-
-            float tx = ox[i];
-            ox[i] = ox[j];
-            ox[j] = tx;
-
-            float ty = oy[i];
-            oy[i] = oy[j];
-            oy[j] = ty;
-        }
+        shuffleArray(scratchCells, count);
 
-        for (int i = 0; i < unmatched.size; i++) {
-            int idx = unmatched.get(i);
-            cards[idx].setPosition(ox[i], oy[i]);
+        for (int i = 0; i < count; i++) {
+            Card c = cards[scratchCards[i]];
+            placeInCell(c, scratchCells[i]);
 
-            if (cards[idx].isRevealed() && !cards[idx].isMatched()) {
-                cards[idx].hideInstant();
+            if (c.isRevealed() && !c.isMatched()) {
+                c.hideInstant();
             }
         }
     }
 
+    /**
+     * Solo avanza las cartas con una animación en curso.
+     */
     public void update(float delta) {
-        for (Card card : cards) {
-            if (card != null) card.update(delta);
-        }
+        store.update(delta);
+    }
+
+    public int getAnimatingCardCount() {
+        return store.getActiveCount();
     }
 
     public void draw(SpriteBatch batch, ShapeRenderer shapeRenderer, OrthographicCamera camera) {
@@ -202,18 +325,69 @@ public class GameGrid {
         batch.end();
     }
 
+    /**
+     * Carta que ocupa la celda indicada (fila * gridSize + columna) o null.
+     */
+    public Card getCardInCell(int cell) {
+        if (cell < 0 || cell >= cellCards.length) return null;
+        return cellCards[cell];
+    }
+
+    /**
+     * Carta bajo el punto en O(1): se calcula la celda y se consulta el índice.
+     * Los huecos entre celdas no devuelven carta.
+     */
     public Card getCardAt(float x, float y) {
-        for (Card card : cards) {
-            if (card != null && card.contains(x, y)) return card;
-        }
-        return null;
+        if (x < gridX || y < gridY) return null;
+
+        int col = (int) ((x - gridX) / (cardW + spacing));
+        int rowFromBottom = (int) ((y - gridY) / (cardH + spacing));
+        if (col >= gridSize || rowFromBottom >= gridSize) return null;
+
+        Card card = cellCards[(gridSize - 1 - rowFromBottom) * gridSize + col];
+        return card != null && card.contains(x, y) ? card : null;
     }
 
     public boolean isAllMatched() {
-        for (Card card : cards) {
-            if (card != null && !card.isMatched()) return false;
-        }
-        return true;
+        return store.getUnmatchedCount() == 0;
+    }
+
+    public int getMatchedPairs() {
+        return store.getMatchedCount() / 2;
+    }
+
+    public int getUnmatchedCardCount() {
+        return store.getUnmatchedCount();
+    }
+
+    /**
+     * Cartas sin emparejar que quedan de un personaje.
+     */
+    public int getRemainingCount(int characterId) {
+        return store.getRemaining(characterId);
+    }
+
+    // Contadores de personajes del store, para comprobarlos en los tests
+    int getCharactersRemaining() {
+        return store.getCharactersRemaining();
+    }
+
+    int getCharactersWithPair() {
+        return store.getCharactersWithPair();
+    }
+
+    public boolean canShuffle() {
+        return store.getUnmatchedCount() > 1;
+    }
+
+    /**
+     * Condición necesaria para una pista: un par sin emparejar y dos señuelos
+     * de personajes distintos. triggerHintShake además descarta cartas reveladas.
+     */
+    public boolean canShowHint() {
+        return store.getUnmatchedCount() >= Constants.HINT_SHAKE_TOTAL_CARDS
+            && store.getCharactersWithPair() > 0
+            && store.getCharactersRemaining() >= 1 + Constants.HINT_SHAKE_DECOY_CARDS;
     }
 
     public int getTotalPairs() {
@@ -225,56 +399,58 @@ public class GameGrid {
     }
 
     public boolean triggerHintShake() {
-        Array<Card> candidates = new Array<>();
-        for (Card c : cards) {
+        if (!canShowHint()) return false;
+
+        // Candidatas en scratchCards y cuántas hay de cada personaje
+        int count = 0;
+        hintCounts.clear();
+        for (int i = 0; i < totalCards; i++) {
+            Card c = cards[i];
             if (c == null) continue;
             if (c.isMatched()) continue;
             if (c.isRevealed()) continue;
             if (c.isAnimating()) continue;
-            candidates.add(c);
-        }
-        if (candidates.size < Constants.HINT_SHAKE_TOTAL_CARDS) return false;
-
-        IntMap<Array<Card>> byId = new IntMap<>();
-        for (Card c : candidates) {
-            Array<Card> list = byId.get(c.getCharacterId());
-            if (list == null) {
-                list = new Array<>();
-                byId.put(c.getCharacterId(), list);
-            }
-            list.add(c);
+            scratchCards[count++] = i;
+            hintCounts.getAndIncrement(c.getCharacterId(), 0, 1);
         }
+        if (count < Constants.HINT_SHAKE_TOTAL_CARDS) return false;
 
-        Array<Integer> pairIds = new Array<>();
-        for (IntMap.Entry<Array<Card>> e : byId.entries()) {
-            if (e.value != null && e.value.size >= 2) pairIds.add(e.key);
+        int pairIds = 0;
+        for (IntIntMap.Entry e : hintCounts.entries()) {
+            if (e.value >= 2) pairIds++;
         }
-        if (pairIds.size == 0) return false;
-
-        int chosenId = pairIds.random();
-        Array<Card> pairList = byId.get(chosenId);
-
-        Card a = pairList.random();
-        Card b = a;
-        int guard = 0;
-        while (b == a && guard++ < 20) b = pairList.random();
-        if (a == b) return false;
-
-        Array<Card> decoyPool = new Array<>();
-        for (Card c : candidates) {
-            if (c == a || c == b) continue;
-            if (c.getCharacterId() == chosenId) continue;
-            decoyPool.add(c);
+        if (pairIds == 0) return false;
+
+        // El par y dos señuelos de personajes distintos entre sí: se comprueba antes
+        // de sacar ningún número, porque el RNG es el de la sesión y una pista fallida
+        // no se graba en la repetición
+        if (hintCounts.size < 1 + Constants.HINT_SHAKE_DECOY_CARDS) return false;
+
+        int chosenId = -1;
+        int pick = random.nextInt(pairIds);
+        for (IntIntMap.Entry e : hintCounts.entries()) {
+            if (e.value >= 2 && pick-- == 0) {
+                chosenId = e.key;
+                break;
+            }
         }
-        if (decoyPool.size < Constants.HINT_SHAKE_DECOY_CARDS) return false;
 
-        Card d1 = decoyPool.random();
-        Card d2 = d1;
-        guard = 0;
-        while ((d2 == d1 || d2.getCharacterId() == d1.getCharacterId()) && guard++ < 40) {
-            d2 = decoyPool.random();
-        }
-        if (d2 == d1) return false;
+        // Dos cartas distintas del par elegido
+        int pairCount = hintCounts.get(chosenId, 0);
+        int ka = random.nextInt(pairCount);
+        int kb = random.nextInt(pairCount - 1);
+        if (kb >= ka) kb++;
+        Card a = cards[findCandidate(count, ka, chosenId, NO_CHARACTER, NO_CHARACTER)];
+        Card b = cards[findCandidate(count, kb, chosenId, NO_CHARACTER, NO_CHARACTER)];
+
+        // Dos señuelos de personajes distintos entre sí y del par; con tres personajes
+        // o más entre las candidatas siempre hay al menos uno de cada
+        int decoyCount = count - pairCount;
+        Card d1 = cards[findCandidate(count, random.nextInt(decoyCount), NO_CHARACTER, chosenId, NO_CHARACTER)];
+        int d1Id = d1.getCharacterId();
+
+        int secondDecoyCount = decoyCount - hintCounts.get(d1Id, 0);
+        Card d2 = cards[findCandidate(count, random.nextInt(secondDecoyCount), NO_CHARACTER, chosenId, d1Id)];
 
         a.triggerShake(HINT_SHAKE_DURATION, HINT_SHAKE_AMPLITUDE);
         b.triggerShake(HINT_SHAKE_DURATION, HINT_SHAKE_AMPLITUDE);
@@ -284,6 +460,27 @@ public class GameGrid {
         return true;
     }
 
+    /**
+     * Índice de la k-ésima candidata de scratchCards[0..count) cuyo personaje es onlyId
+     * (o cualquiera con NO_CHARACTER) y no es skipA ni skipB.
+     */
+    private int findCandidate(int count, int k, int onlyId, int skipA, int skipB) {
+        for (int s = 0; s < count; s++) {
+            int id = cards[scratchCards[s]].getCharacterId();
+            if (onlyId != NO_CHARACTER && id != onlyId) continue;
+            if (id == skipA || id == skipB) continue;
+            if (k-- == 0) return scratchCards[s];
+        }
+        return -1;
+    }
+
     public void dispose() {
+        disposed = true;
+        for (TextureHandle handle : frontHandles) handle.release();
+        frontHandles.clear();
+        if (cardAtlas != null) {
+            cardAtlas.dispose();
+            cardAtlas = null;
+        }
     }
 }
\ No newline at end of file
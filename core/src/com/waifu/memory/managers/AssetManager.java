@@ -1,15 +1,101 @@
 package com.waifu.memory.managers;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.glutils.KTXTextureData;
+import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectIntMap;
 import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncTask;
+import com.waifu.memory.data.LevelConfig;
+import com.waifu.memory.entities.GameGrid;
 import com.waifu.memory.utils.Constants;
 import com.waifu.memory.utils.PlaceholderTextures;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 public class AssetManager implements Disposable {
 
-    private final ObjectMap<String, Texture> characterTextures = new ObjectMap<>();
+    /**
+     * Recibe la textura real cuando termina una carga asíncrona.
+     * Siempre se invoca en el hilo de render.
+     */
+    public interface TextureListener {
+        void onTextureLoaded(Texture texture);
+    }
+
+    /**
+     * Recibe el atlas de cartas ya subido a GPU. El receptor pasa a ser
+     * el dueño del atlas y debe hacer dispose. Se invoca en el hilo de render.
+     */
+    public interface AtlasListener {
+        void onAtlasReady(TextureAtlas atlas);
+    }
+
+    private static final String ASTC_EXTENSION = "GL_KHR_texture_compression_astc_ldr";
+
+    public static final String REGION_CARD_BACK = "card_back";
+    private static final String REGION_FRAME_PREFIX = "frame_";
+    private static final String REGION_CHARACTER_PREFIX = "char_";
+
+    private static class PackedAtlas {
+        final PixmapPacker packer;
+        final AtlasListener listener;
+
+        PackedAtlas(PixmapPacker packer, AtlasListener listener) {
+            this.packer = packer;
+            this.listener = listener;
+        }
+    }
+
+    private static class CachedTexture {
+        final Texture texture; // null si el archivo no existe
+        final long bytes;
+        long lastUsed;
+
+        CachedTexture(Texture texture) {
+            this.texture = texture;
+            this.bytes = estimateTextureBytes(texture);
+        }
+    }
+
+    private static class DecodedTexture {
+        final String key;
+        final TextureData data; // ya preparada (PNG decodificado o KTX leído)
+
+        DecodedTexture(String key, TextureData data) {
+            this.key = key;
+            this.data = data;
+        }
+    }
+
+    private final ObjectMap<String, CachedTexture> characterTextures = new ObjectMap<>();
+    private final ObjectIntMap<String> refCounts = new ObjectIntMap<>();
+    private final ObjectMap<String, Array<TextureHandle>> liveHandles = new ObjectMap<>();
+    private final ObjectSet<String> deferredUnloads = new ObjectSet<>();
+    private long textureBudgetBytes = Constants.TEXTURE_BUDGET_BYTES;
+    private long characterTextureBytes = 0;
+    private long essentialTextureBytes = 0;
+    private long useCounter = 0;
+
+    private final AsyncExecutor decodeExecutor = new AsyncExecutor(Constants.ASSET_DECODE_THREADS, "AssetDecoder");
+    private final ConcurrentLinkedQueue<DecodedTexture> decodedQueue = new ConcurrentLinkedQueue<>();
+    private final ObjectMap<String, Array<TextureListener>> pendingLoads = new ObjectMap<>();
+    private final ConcurrentLinkedQueue<PackedAtlas> packedAtlases = new ConcurrentLinkedQueue<>();
+
+    // Precarga del siguiente nivel
+    private String prefetchKey;
+    private TextureAtlas prefetchedAtlas;
+    private AtlasListener prefetchWaiter;
 
     private Texture cardBackTexture;
     private Texture logoTexture;
@@ -18,10 +104,23 @@ public class AssetManager implements Disposable {
     private final PlaceholderTextures placeholders = new PlaceholderTextures();
     private boolean essentialsLoaded = false;
 
+    private boolean supportsEtc2 = false;
+    private boolean supportsAstc = false;
+
+    // PNG de personajes en un solo archivo mapeado; null si no se generó
+    private AssetPack characterPack;
+
     public void loadEssentialAssets() {
         if (essentialsLoaded) return;
 
-        placeholders.init(Constants.ASSET_CARD_WIDTH, Constants.ASSET_CARD_HEIGHT, Constants.VARIANTS_PER_CHARACTER);
+        // ETC2 es obligatorio en GLES 3.0; ASTC depende de la extensión
+        supportsEtc2 = Gdx.graphics.isGL30Available();
+        supportsAstc = Gdx.graphics.supportsExtension(ASTC_EXTENSION);
+
+        characterPack = AssetPack.open(Gdx.files.internal(Constants.CHARACTER_PACK_PATH));
+
+        // Los placeholders se leen o generan en paralelo con las cargas de abajo
+        placeholders.prepare(Constants.ASSET_CARD_WIDTH, Constants.ASSET_CARD_HEIGHT, Constants.VARIANTS_PER_CHARACTER, decodeExecutor);
 
         cardBackTexture = loadIfExists(Constants.getUiPath(Constants.UI_CARD_BACK));
         logoTexture = loadIfExists(Constants.getUiPath(Constants.UI_LOGO));
@@ -30,14 +129,90 @@ public class AssetManager implements Disposable {
             frameTextures[v] = loadIfExists(Constants.getFramePath(v));
         }
 
+        placeholders.init(Constants.ASSET_CARD_WIDTH, Constants.ASSET_CARD_HEIGHT, Constants.VARIANTS_PER_CHARACTER);
+
+        essentialTextureBytes = estimateTextureBytes(cardBackTexture) + estimateTextureBytes(logoTexture)
+            + estimateTextureBytes(placeholders.getCharacter()) + estimateTextureBytes(placeholders.getCardBack());
+        for (int v = 0; v < Constants.VARIANTS_PER_CHARACTER; v++) {
+            essentialTextureBytes += estimateTextureBytes(frameTextures[v]) + estimateTextureBytes(placeholders.getFrame(v));
+        }
+
         essentialsLoaded = true;
     }
 
+    /**
+     * Devuelve la variante KTX comprimida (ASTC o ETC2) de un PNG si existe
+     * y la GPU la soporta; si no, el PNG original. Para lo empaquetado la
+     * existencia de los KTX viene del índice del paquete, sin tocar el disco.
+     */
+    private FileHandle resolveTextureFile(String path) {
+        AssetPack pack = characterPack;
+        if (pack != null && pack.contains(path)) {
+            return Gdx.files.internal(resolvePackedPath(pack, path));
+        }
+        if (path.endsWith(Constants.IMAGE_EXTENSION)) {
+            String base = path.substring(0, path.length() - Constants.IMAGE_EXTENSION.length());
+            if (supportsAstc) {
+                FileHandle astc = Gdx.files.internal(base + Constants.COMPRESSED_EXTENSION_ASTC);
+                if (astc.exists()) return astc;
+            }
+            if (supportsEtc2) {
+                FileHandle etc2 = Gdx.files.internal(base + Constants.COMPRESSED_EXTENSION_ETC2);
+                if (etc2.exists()) return etc2;
+            }
+        }
+        return Gdx.files.internal(path);
+    }
+
+    private boolean isInPack(String path) {
+        return characterPack != null && characterPack.contains(path);
+    }
+
+    /**
+     * True si la imagen debe leerse del paquete: está empaquetada y no hay
+     * una variante KTX que la GPU prefiera.
+     */
+    private boolean isPacked(String path) {
+        AssetPack pack = characterPack;
+        if (pack == null || !pack.contains(path)) return false;
+        return resolvePackedPath(pack, path).equals(path);
+    }
+
+    /**
+     * Ruta del KTX preferido para una imagen empaquetada, o la misma ruta si no hay.
+     */
+    private String resolvePackedPath(AssetPack pack, String path) {
+        int variants = pack.getKtxVariants(path);
+        if (variants == 0) return path;
+
+        String base = path.substring(0, path.length() - Constants.IMAGE_EXTENSION.length());
+        if (supportsAstc && (variants & AssetPack.KTX_ASTC) != 0) return base + Constants.COMPRESSED_EXTENSION_ASTC;
+        if (supportsEtc2 && (variants & AssetPack.KTX_ETC2) != 0) return base + Constants.COMPRESSED_EXTENSION_ETC2;
+        return path;
+    }
+
+    /**
+     * Decodifica una imagen desde el paquete mapeado o, si no está, desde su archivo.
+     * Devuelve null si no existe. Se puede llamar desde los hilos de trabajo.
+     */
+    public Pixmap decodePixmap(String path) {
+        AssetPack pack = characterPack;
+        try {
+            if (pack != null && pack.contains(path)) return pack.decodePixmap(path);
+            FileHandle file = Gdx.files.internal(path);
+            return file.exists() ? new Pixmap(file) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     private Texture loadIfExists(String path) {
         if (path == null) return null;
-        if (!Gdx.files.internal(path).exists()) return null;
+        FileHandle file = resolveTextureFile(path);
+        // Si está en el paquete, su índice ya dice que el KTX elegido existe
+        if (!isInPack(path) && !file.exists()) return null;
         try {
-            Texture t = new Texture(Gdx.files.internal(path));
+            Texture t = new Texture(file);
             t.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
             return t;
         } catch (Exception e) {
@@ -45,6 +220,258 @@ public class AssetManager implements Disposable {
         }
     }
 
+    /**
+     * Sube a GPU los Pixmaps ya decodificados, respetando el presupuesto
+     * de milisegundos por frame. Llamar una vez por frame desde el hilo de render.
+     */
+    public void update() {
+        if (decodedQueue.isEmpty() && packedAtlases.isEmpty()) return;
+
+        long start = TimeUtils.nanoTime();
+        long budgetNanos = (long) (Constants.ASSET_UPLOAD_BUDGET_MS * 1000000f);
+
+        // Un atlas por frame como máximo: sus páginas son las subidas más grandes
+        PackedAtlas packed = packedAtlases.poll();
+        if (packed != null) {
+            finishAtlas(packed);
+            if (TimeUtils.nanoTime() - start >= budgetNanos) return;
+        }
+
+        DecodedTexture decoded;
+        while ((decoded = decodedQueue.poll()) != null) {
+            finishAsyncLoad(decoded);
+            if (TimeUtils.nanoTime() - start >= budgetNanos) break;
+        }
+    }
+
+    private void finishAsyncLoad(DecodedTexture decoded) {
+        Array<TextureListener> listeners = pendingLoads.remove(decoded.key);
+
+        // Carga cancelada (unload mientras se decodificaba)
+        if (listeners == null) {
+            discardTextureData(decoded.data);
+            return;
+        }
+
+        Texture t;
+        CachedTexture cached = characterTextures.get(decoded.key);
+        if (cached != null) {
+            // Ya se cargó de forma síncrona mientras tanto
+            t = touch(cached);
+            discardTextureData(decoded.data);
+        } else {
+            t = null;
+            if (decoded.data != null) {
+                try {
+                    t = new Texture(decoded.data);
+                    t.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+                } catch (Exception e) {
+                    Gdx.app.error(Constants.TAG, "Error subiendo textura: " + decoded.key);
+                    t = null;
+                }
+            }
+            putCharacterTexture(decoded.key, t);
+        }
+
+        if (t == null) return;
+        for (TextureListener listener : listeners) {
+            listener.onTextureLoaded(t);
+        }
+    }
+
+    private static void discardTextureData(TextureData data) {
+        if (data == null || !data.isPrepared()) return;
+        if (data.getType() == TextureData.TextureDataType.Pixmap) {
+            if (data.disposePixmap()) data.consumePixmap().dispose();
+        } else if (data instanceof KTXTextureData) {
+            // KTX: se libera el buffer comprimido leído sin subirlo a la GPU
+            ((KTXTextureData) data).disposePreparedData();
+        }
+    }
+
+    private void finishAtlas(PackedAtlas packed) {
+        // Mipmaps: las cartas se dibujan más pequeñas que la celda durante el volteo
+        TextureAtlas atlas = packed.packer.generateTextureAtlas(
+            Texture.TextureFilter.MipMapLinearLinear, Texture.TextureFilter.Linear, true);
+        // Las páginas con textura no se liberan hasta que se libere el atlas
+        packed.packer.dispose();
+        packed.listener.onAtlasReady(atlas);
+    }
+
+    public boolean isLoading() {
+        return pendingLoads.size > 0;
+    }
+
+    /**
+     * True si quedan texturas o atlas decodificados esperando a update().
+     */
+    public boolean hasPendingUploads() {
+        return !decodedQueue.isEmpty() || !packedAtlases.isEmpty();
+    }
+
+    public static String getCharacterRegionName(int characterId) {
+        return REGION_CHARACTER_PREFIX + characterId;
+    }
+
+    public static String getFrameRegionName(int variant) {
+        return REGION_FRAME_PREFIX + variant;
+    }
+
+    /**
+     * Elige el tier de textura más pequeño que siga cubriendo el ancho en píxeles
+     * reales de una carta de cardWorldWidth unidades, según el backbuffer actual.
+     */
+    public static int selectTextureTier(float cardWorldWidth) {
+        float scale = Math.min(
+            Gdx.graphics.getBackBufferWidth() / Constants.WORLD_WIDTH,
+            Gdx.graphics.getBackBufferHeight() / Constants.WORLD_HEIGHT);
+        float pixelWidth = cardWorldWidth * scale;
+
+        int tier = Constants.TEXTURE_TIER_FULL;
+        while (tier < Constants.TEXTURE_TIER_QUARTER && Constants.getTierWidth(tier + 1) >= pixelWidth) {
+            tier++;
+        }
+        return tier;
+    }
+
+    /**
+     * Empaqueta en uno o pocos atlas el dorso, los cuatro marcos y la variante base
+     * de los personajes indicados, al tamaño del tier pedido. Usa los PNG pregenerados
+     * del tier si existen y si no reduce el original. La decodificación y el empaquetado
+     * corren en un hilo de trabajo; la subida a GPU ocurre en update().
+     * Los archivos que no existen se omiten: el llamador mantiene sus texturas actuales.
+     */
+    public void buildCardAtlas(int[] characterIds, int tier, AtlasListener listener) {
+        if (listener == null) return;
+
+        int[] ids = characterIds != null ? characterIds : new int[0];
+
+        // Si coincide con la precarga, se entrega (ya lista o en cuanto termine)
+        if (prefetchKey != null && prefetchKey.equals(getAtlasKey(ids, tier))) {
+            if (prefetchedAtlas != null) {
+                TextureAtlas atlas = prefetchedAtlas;
+                prefetchedAtlas = null;
+                prefetchKey = null;
+                listener.onAtlasReady(atlas);
+            } else {
+                prefetchWaiter = listener;
+            }
+            return;
+        }
+
+        submitCardAtlas(ids, tier, listener);
+    }
+
+    /**
+     * Empieza a construir en segundo plano el atlas del nivel indicado, con el mismo
+     * pool, personajes y tier que usará su GameGrid. El GameGrid de ese nivel lo recibe
+     * en buildCardAtlas sin volver a decodificar nada.
+     */
+    public void prefetchLevel(LevelConfig config) {
+        if (config == null) return;
+
+        int[] ids = GameGrid.getUsedCharacterIds(config.gridSize, config.buildCharacterPool()).toArray();
+        int tier = selectTextureTier(GameGrid.calculateCardWidth(config.gridSize));
+
+        final String key = getAtlasKey(ids, tier);
+        if (key.equals(prefetchKey)) return;
+
+        cancelLevelPrefetch();
+        prefetchKey = key;
+
+        submitCardAtlas(ids, tier, new AtlasListener() {
+            @Override
+            public void onAtlasReady(TextureAtlas atlas) {
+                // Cancelada o reemplazada por otra precarga
+                if (!key.equals(prefetchKey)) {
+                    atlas.dispose();
+                    return;
+                }
+
+                if (prefetchWaiter != null) {
+                    AtlasListener waiter = prefetchWaiter;
+                    prefetchWaiter = null;
+                    prefetchKey = null;
+                    waiter.onAtlasReady(atlas);
+                } else {
+                    prefetchedAtlas = atlas;
+                }
+            }
+        });
+    }
+
+    /**
+     * Descarta la precarga si el jugador no va al siguiente nivel.
+     */
+    public void cancelLevelPrefetch() {
+        prefetchKey = null;
+        prefetchWaiter = null;
+        if (prefetchedAtlas != null) {
+            prefetchedAtlas.dispose();
+            prefetchedAtlas = null;
+        }
+    }
+
+    private static String getAtlasKey(int[] ids, int tier) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(tier);
+        for (int id : ids) sb.append(',').append(id);
+        return sb.toString();
+    }
+
+    private void submitCardAtlas(int[] characterIds, final int tier, final AtlasListener listener) {
+        final int[] ids = characterIds.clone();
+
+        decodeExecutor.submit(new AsyncTask<Void>() {
+            @Override
+            public Void call() {
+                PixmapPacker packer = new PixmapPacker(Constants.ATLAS_PAGE_SIZE, Constants.ATLAS_PAGE_SIZE,
+                    Pixmap.Format.RGBA8888, Constants.ATLAS_PADDING, true);
+
+                packScaled(packer, REGION_CARD_BACK, Constants.getUiPath(Constants.UI_CARD_BACK), tier);
+                for (int v = 0; v < Constants.VARIANTS_PER_CHARACTER; v++) {
+                    packScaled(packer, getFrameRegionName(v), Constants.getFramePath(v), tier);
+                }
+                for (int id : ids) {
+                    if (!Constants.isValidCharacterId(id)) continue;
+                    packScaled(packer, getCharacterRegionName(id), Constants.getCharacterPath(id, 0), tier);
+                }
+
+                packedAtlases.add(new PackedAtlas(packer, listener));
+                // Con render bajo demanda el hilo de render puede estar parado
+                Gdx.graphics.requestRendering();
+                return null;
+            }
+        });
+    }
+
+    private void packScaled(PixmapPacker packer, String name, String path, int tier) {
+        Pixmap source = decodePixmap(Constants.getTierPath(path, tier));
+        if (source == null && tier != Constants.TEXTURE_TIER_FULL) source = decodePixmap(path);
+        if (source == null) return;
+
+        int width = Constants.getTierWidth(tier);
+        int height = Constants.getTierHeight(tier);
+
+        Pixmap scaled = null;
+        try {
+            if (source.getWidth() == width && source.getHeight() == height) {
+                packer.pack(name, source);
+            } else {
+                scaled = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+                scaled.setBlending(Pixmap.Blending.None);
+                scaled.setFilter(Pixmap.Filter.BiLinear);
+                scaled.drawPixmap(source, 0, 0, source.getWidth(), source.getHeight(), 0, 0, width, height);
+                packer.pack(name, scaled);
+            }
+        } catch (Exception e) {
+            // Se omite: el llamador conserva la textura individual
+        } finally {
+            if (source != null) source.dispose();
+            if (scaled != null) scaled.dispose();
+        }
+    }
+
     public boolean isEssentialLoaded() {
         return essentialsLoaded;
     }
@@ -64,35 +491,204 @@ public class AssetManager implements Disposable {
         return real != null ? real : placeholders.getFrame(v);
     }
 
-    public Texture getCharacterTexture(int characterId, int variant) {
+    public Texture getCharacterPlaceholderTexture() {
+        return placeholders.getCharacter();
+    }
+
+    // ========== HANDLES ==========
+
+    /**
+     * Adquiere una referencia a la textura de un personaje y la carga en el acto.
+     * owner identifica a quien la retiene (normalmente la pantalla) para el reporte
+     * de fugas. Cada acquire debe ir acompañado de un release del handle.
+     */
+    public TextureHandle acquireCharacterTexture(int characterId, int variant, String owner) {
+        TextureHandle handle = createHandle(characterId, variant, owner);
+        if (handle.key != null) loadCharacterTexture(characterId, variant);
+        return handle;
+    }
+
+    /**
+     * Igual que acquireCharacterTexture pero con carga asíncrona: el handle devuelve
+     * el placeholder hasta que la textura se sube en update(), y luego avisa al listener.
+     */
+    public TextureHandle acquireCharacterTextureAsync(int characterId, int variant, String owner, TextureListener listener) {
+        TextureHandle handle = createHandle(characterId, variant, owner);
+        if (handle.key != null) requestCharacterTexture(characterId, variant, listener);
+        return handle;
+    }
+
+    private TextureHandle createHandle(int characterId, int variant, String owner) {
+        boolean valid = Constants.isValidCharacterId(characterId) && Constants.isValidVariant(variant);
+        TextureHandle handle = new TextureHandle(this, valid ? characterId + "_" + variant : null, owner);
+        if (!valid) return handle;
+
+        refCounts.getAndIncrement(handle.key, 0, 1);
+        deferredUnloads.remove(handle.key);
+
+        Array<TextureHandle> handles = liveHandles.get(handle.key);
+        if (handles == null) {
+            handles = new Array<>(false, 4);
+            liveHandles.put(handle.key, handles);
+        }
+        handles.add(handle);
+
+        CachedTexture cached = characterTextures.get(handle.key);
+        if (cached != null) handle.texture = touch(cached);
+        return handle;
+    }
+
+    /**
+     * Lo invoca TextureHandle.release(). Con la última referencia se aplica
+     * el unload diferido o la textura vuelve a ser expulsable por presupuesto.
+     */
+    void releaseHandle(TextureHandle handle) {
+        if (handle.key == null) return;
+
+        Array<TextureHandle> handles = liveHandles.get(handle.key);
+        if (handles != null) {
+            handles.removeValue(handle, true);
+            if (handles.size == 0) liveHandles.remove(handle.key);
+        }
+
+        int refs = refCounts.get(handle.key, 0);
+        if (refs > 1) {
+            refCounts.put(handle.key, refs - 1);
+            return;
+        }
+
+        refCounts.remove(handle.key, 0);
+        if (deferredUnloads.remove(handle.key)) {
+            pendingLoads.remove(handle.key);
+            removeCharacterTexture(handle.key);
+        } else {
+            enforceBudget(null);
+        }
+    }
+
+    public int getLiveHandleCount() {
+        int count = 0;
+        for (Array<TextureHandle> handles : liveHandles.values()) count += handles.size;
+        return count;
+    }
+
+    /**
+     * Registra los handles de owner que siguen vivos. Se llama al destruir una
+     * pantalla: todo lo que aparezca aquí es una fuga. Devuelve cuántos hay.
+     */
+    public int reportLeakedHandles(String owner) {
+        int leaks = 0;
+        for (Array<TextureHandle> handles : liveHandles.values()) {
+            for (TextureHandle handle : handles) {
+                if (owner != null && !owner.equals(handle.owner)) continue;
+                Gdx.app.error(Constants.TAG, "Leaked " + handle);
+                leaks++;
+            }
+        }
+        if (leaks > 0) {
+            Gdx.app.error(Constants.TAG, leaks + " texture handle(s) leaked by " + owner);
+        }
+        return leaks;
+    }
+
+    private void updateHandles(String key, Texture texture) {
+        Array<TextureHandle> handles = liveHandles.get(key);
+        if (handles == null) return;
+        for (TextureHandle handle : handles) handle.texture = texture;
+    }
+
+    private Texture loadCharacterTexture(int characterId, int variant) {
         if (!Constants.isValidCharacterId(characterId) || !Constants.isValidVariant(variant)) {
             return placeholders.getCharacter();
         }
 
         String key = characterId + "_" + variant;
 
-        if (characterTextures.containsKey(key)) {
-            Texture cached = characterTextures.get(key);
-            return cached != null ? cached : placeholders.getCharacter();
+        CachedTexture cached = characterTextures.get(key);
+        if (cached != null) {
+            Texture t = touch(cached);
+            return t != null ? t : placeholders.getCharacter();
         }
 
         String path = Constants.getCharacterPath(characterId, variant);
-        Texture t = loadIfExists(path);
+        Texture t = isPacked(path) ? loadPacked(path) : loadIfExists(path);
 
-        characterTextures.put(key, t);
+        putCharacterTexture(key, t);
         return t != null ? t : placeholders.getCharacter();
     }
 
+    /**
+     * Versión asíncrona de loadCharacterTexture: el PNG se decodifica en un hilo
+     * de trabajo y se sube a GPU en update(). Mientras tanto devuelve el placeholder;
+     * el listener recibe la textura real cuando esté lista.
+     */
+    private Texture requestCharacterTexture(int characterId, int variant, TextureListener listener) {
+        if (!Constants.isValidCharacterId(characterId) || !Constants.isValidVariant(variant)) {
+            return placeholders.getCharacter();
+        }
+
+        final String key = characterId + "_" + variant;
+
+        CachedTexture cached = characterTextures.get(key);
+        if (cached != null) {
+            Texture t = touch(cached);
+            return t != null ? t : placeholders.getCharacter();
+        }
+
+        Array<TextureListener> listeners = pendingLoads.get(key);
+        if (listeners != null) {
+            if (listener != null) listeners.add(listener);
+            return placeholders.getCharacter();
+        }
+
+        final String path = Constants.getCharacterPath(characterId, variant);
+        final boolean packed = isPacked(path);
+        final FileHandle file = packed ? null : resolveTextureFile(path);
+        if (!packed && !isInPack(path) && !file.exists()) {
+            putCharacterTexture(key, null);
+            return placeholders.getCharacter();
+        }
+
+        listeners = new Array<>();
+        if (listener != null) listeners.add(listener);
+        pendingLoads.put(key, listeners);
+
+        decodeExecutor.submit(new AsyncTask<Void>() {
+            @Override
+            public Void call() {
+                TextureData data;
+                try {
+                    if (packed) {
+                        Pixmap pixmap = characterPack.decodePixmap(path);
+                        data = pixmap != null ? new PixmapTextureData(pixmap, null, false, true) : null;
+                    } else {
+                        data = TextureData.Factory.loadFromFile(file, false);
+                        data.prepare();
+                    }
+                } catch (Exception e) {
+                    data = null;
+                }
+                decodedQueue.add(new DecodedTexture(key, data));
+                Gdx.graphics.requestRendering();
+                return null;
+            }
+        });
+
+        return placeholders.getCharacter();
+    }
+
     public void unloadCharacterTexture(int characterId, int variant) {
         if (!Constants.isValidCharacterId(characterId) || !Constants.isValidVariant(variant)) return;
 
         String key = characterId + "_" + variant;
-        if (!characterTextures.containsKey(key)) return;
-
-        Texture t = characterTextures.get(key);
-        if (t != null) t.dispose();
+        // Con handles vivos el unload se aplica al soltar la última referencia
+        if (refCounts.get(key, 0) > 0) {
+            deferredUnloads.add(key);
+            return;
+        }
 
-        characterTextures.remove(key);
+        pendingLoads.remove(key);
+        removeCharacterTexture(key);
     }
 
     public void unloadCharacter(int characterId) {
@@ -102,15 +698,152 @@ public class AssetManager implements Disposable {
         }
     }
 
+    /**
+     * Destruye todas las texturas de personaje, incluso las referenciadas:
+     * solo para el cierre del juego. Los handles vivos pasan al placeholder.
+     */
     public void unloadAllCharacters() {
-        for (Texture t : characterTextures.values()) {
-            if (t != null) t.dispose();
+        pendingLoads.clear();
+        for (CachedTexture cached : characterTextures.values()) {
+            if (cached.texture != null) cached.texture.dispose();
         }
         characterTextures.clear();
+        characterTextureBytes = 0;
+
+        for (Array<TextureHandle> handles : liveHandles.values()) {
+            for (TextureHandle handle : handles) handle.texture = null;
+        }
+        deferredUnloads.clear();
+    }
+
+    // ========== PRESUPUESTO DE MEMORIA ==========
+
+    public void setTextureBudgetBytes(long bytes) {
+        textureBudgetBytes = Math.max(0L, bytes);
+        enforceBudget(null);
+    }
+
+    public long getTextureBudgetBytes() {
+        return textureBudgetBytes;
+    }
+
+    public long getCharacterTextureBytes() {
+        return characterTextureBytes;
+    }
+
+    /**
+     * VRAM estimada de las texturas que gestiona este manager: esenciales y personajes.
+     * Los atlas de nivel pertenecen a su GameGrid y no se incluyen.
+     */
+    public long getTextureMemoryBytes() {
+        return essentialTextureBytes + characterTextureBytes;
+    }
+
+    private Texture loadPacked(String path) {
+        Pixmap pixmap = decodePixmap(path);
+        if (pixmap == null) return null;
+        try {
+            Texture t = new Texture(pixmap);
+            t.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            return t;
+        } catch (Exception e) {
+            return null;
+        } finally {
+            pixmap.dispose();
+        }
+    }
+
+    private Texture touch(CachedTexture cached) {
+        cached.lastUsed = ++useCounter;
+        return cached.texture;
+    }
+
+    private void putCharacterTexture(String key, Texture texture) {
+        CachedTexture cached = new CachedTexture(texture);
+        cached.lastUsed = ++useCounter;
+        characterTextures.put(key, cached);
+        characterTextureBytes += cached.bytes;
+        updateHandles(key, texture);
+        enforceBudget(key);
+    }
+
+    private void removeCharacterTexture(String key) {
+        CachedTexture cached = characterTextures.remove(key);
+        if (cached == null) return;
+        characterTextureBytes -= cached.bytes;
+        updateHandles(key, null);
+        if (cached.texture != null) cached.texture.dispose();
+    }
+
+    /**
+     * Expulsa las texturas sin handles vivos usadas hace más tiempo hasta quedar
+     * dentro del presupuesto. keepKey es la textura que se acaba de devolver.
+     */
+    private void enforceBudget(String keepKey) {
+        while (characterTextureBytes > textureBudgetBytes) {
+            String victim = null;
+            long oldest = Long.MAX_VALUE;
+
+            for (ObjectMap.Entry<String, CachedTexture> e : characterTextures) {
+                if (e.value.texture == null) continue;
+                if (e.key.equals(keepKey)) continue;
+                if (refCounts.get(e.key, 0) > 0) continue;
+                if (e.value.lastUsed < oldest) {
+                    oldest = e.value.lastUsed;
+                    victim = e.key;
+                }
+            }
+
+            if (victim == null) break;
+            removeCharacterTexture(victim);
+        }
+    }
+
+    /**
+     * Bytes de VRAM que ocupa una textura según sus dimensiones y formato reales.
+     */
+    public static long estimateTextureBytes(Texture texture) {
+        if (texture == null) return 0L;
+        TextureData data = texture.getTextureData();
+        if (data.getType() == TextureData.TextureDataType.Custom) {
+            // KTX comprimido: ETC2 RGBA usa 8 bits por píxel, ASTC 6x6 menos
+            return (long) texture.getWidth() * texture.getHeight();
+        }
+        Pixmap.Format format = data.getFormat();
+        return (long) texture.getWidth() * texture.getHeight() * getBytesPerPixel(format);
+    }
+
+    private static int getBytesPerPixel(Pixmap.Format format) {
+        if (format == null) return 4;
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
     }
 
     @Override
     public void dispose() {
+        decodeExecutor.dispose();
+
+        DecodedTexture decoded;
+        while ((decoded = decodedQueue.poll()) != null) {
+            discardTextureData(decoded.data);
+        }
+
+        PackedAtlas packed;
+        while ((packed = packedAtlases.poll()) != null) {
+            packed.packer.dispose();
+        }
+
         if (cardBackTexture != null) cardBackTexture.dispose();
         if (logoTexture != null) logoTexture.dispose();
 
@@ -119,9 +852,14 @@ public class AssetManager implements Disposable {
             frameTextures[i] = null;
         }
 
+        cancelLevelPrefetch();
         unloadAllCharacters();
+        liveHandles.clear();
+        refCounts.clear();
         placeholders.dispose();
+        essentialTextureBytes = 0;
+        characterPack = null;
 
         essentialsLoaded = false;
     }
-}
\ No newline at end of file
+}
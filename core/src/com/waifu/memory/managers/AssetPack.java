@@ -0,0 +1,112 @@
+package com.waifu.memory.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.waifu.memory.utils.Constants;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Paquete de assets en un solo archivo, mapeado en memoria con NIO.
+ * Lo genera la tarea :core:packCharacters. Formato (big endian):
+ * magic, versión, número de entradas; por entrada ruta (UTF, con longitud u16),
+ * offset (i64), tamaño (i32) y qué variantes KTX hay junto al PNG (u8, bits
+ * KTX_ASTC y KTX_ETC2); después los PNG tal cual.
+ * Los lectores decodifican directamente desde el buffer mapeado, sin abrir archivos.
+ * Tras open() solo se lee, así que se puede usar desde los hilos de decodificación.
+ */
+public class AssetPack {
+
+    private static final int MAGIC = 0x4951574B; // "IQWK"
+
+    public static final int KTX_ASTC = 1;
+    public static final int KTX_ETC2 = 2;
+
+    private static class Entry {
+        final int offset;
+        final int length;
+        final int ktxVariants;
+
+        Entry(int offset, int length, int ktxVariants) {
+            this.offset = offset;
+            this.length = length;
+            this.ktxVariants = ktxVariants;
+        }
+    }
+
+    private final ByteBuffer buffer;
+    private final ObjectMap<String, Entry> entries;
+
+    private AssetPack(ByteBuffer buffer, ObjectMap<String, Entry> entries) {
+        this.buffer = buffer;
+        this.entries = entries;
+    }
+
+    /**
+     * Mapea el paquete y lee su índice. Devuelve null si no existe, no se puede
+     * mapear (p. ej. comprimido dentro del APK) o su versión no coincide.
+     */
+    public static AssetPack open(FileHandle file) {
+        if (file == null || !file.exists()) return null;
+
+        try {
+            ByteBuffer buffer = file.map();
+            buffer.order(ByteOrder.BIG_ENDIAN);
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != Constants.ASSET_PACK_VERSION) {
+                Gdx.app.error(Constants.TAG, "Asset pack version mismatch: " + file.path());
+                return null;
+            }
+
+            int count = buffer.getInt();
+            ObjectMap<String, Entry> entries = new ObjectMap<>(count);
+            for (int i = 0; i < count; i++) {
+                byte[] name = new byte[buffer.getShort() & 0xFFFF];
+                buffer.get(name);
+                long offset = buffer.getLong();
+                int length = buffer.getInt();
+                int ktxVariants = buffer.get() & 0xFF;
+                if (offset < 0 || offset + length > buffer.capacity()) {
+                    Gdx.app.error(Constants.TAG, "Corrupt asset pack entry in " + file.path());
+                    return null;
+                }
+                entries.put(new String(name, StandardCharsets.UTF_8), new Entry((int) offset, length, ktxVariants));
+            }
+
+            Gdx.app.log(Constants.TAG, "Asset pack mapped: " + file.path() + " (" + count + " entries)");
+            return new AssetPack(buffer, entries);
+        } catch (Exception e) {
+            Gdx.app.error(Constants.TAG, "Could not map asset pack: " + file.path(), e);
+            return null;
+        }
+    }
+
+    public boolean contains(String path) {
+        return entries.containsKey(path);
+    }
+
+    /**
+     * Variantes KTX (KTX_ASTC | KTX_ETC2) que existían junto al PNG al empaquetar;
+     * 0 si no hay ninguna o la ruta no está en el paquete.
+     */
+    public int getKtxVariants(String path) {
+        Entry entry = entries.get(path);
+        return entry != null ? entry.ktxVariants : 0;
+    }
+
+    public int size() {
+        return entries.size;
+    }
+
+    /**
+     * Decodifica la imagen guardada con esa ruta, o null si no está en el paquete.
+     */
+    public Pixmap decodePixmap(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) return null;
+        return new Pixmap(buffer, entry.offset, entry.length);
+    }
+}
@@ -0,0 +1,292 @@
+package com.waifu.memory.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.waifu.memory.utils.Constants;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Fuentes rasterizadas con FreeType al tamaño exacto en píxeles, solo con los
+ * caracteres que se van a dibujar. El resultado (páginas PNG y métricas de glifos)
+ * se guarda en almacenamiento local; los siguientes arranques lo leen sin FreeType.
+ * La clave del caché incluye archivo, tamaño y juego de caracteres, así que un
+ * cambio de idioma o de fuente genera otro archivo en lugar de reutilizar uno viejo.
+ */
+public class FontCache {
+
+    private static final int CACHE_MAGIC = 0x49514654; // "IQFT"
+    private static final int IO_BUFFER_SIZE = 16 * 1024;
+
+    // Tamaño de página de kerning en BitmapFont.Glyph (BitmapFont.PAGE_SIZE)
+    private static final int KERNING_PAGE_SIZE = 512;
+
+    private final FileHandle fontFile;
+    private final String characters;
+    private final String keyPrefix;
+
+    /**
+     * @param fontFile   TTF/OTF a rasterizar; null si no hay fuente y se usa la por defecto
+     * @param characters caracteres a incluir, sin repetir
+     */
+    public FontCache(FileHandle fontFile, String characters) {
+        this.fontFile = fontFile;
+        this.characters = characters;
+        this.keyPrefix = fontFile == null ? null
+            : fontFile.nameWithoutExtension() + "_" + Long.toHexString(fontFile.length())
+                + "_" + Integer.toHexString(characters.hashCode());
+    }
+
+    public boolean isAvailable() {
+        return fontFile != null;
+    }
+
+    /**
+     * Fuente de pixelSize píxeles: del caché local o rasterizada ahora.
+     * Devuelve null si FreeType no está disponible o la fuente no se puede leer.
+     */
+    public BitmapFont getFont(int pixelSize) {
+        if (fontFile == null) return null;
+
+        FileHandle meta = cacheFile(pixelSize, ".bin");
+        BitmapFont font = readCache(meta, pixelSize);
+        if (font != null) return font;
+
+        try {
+            if (meta != null && rasterizeToCache(meta, pixelSize)) {
+                font = readCache(meta, pixelSize);
+                if (font != null) return font;
+            }
+            // Sin almacenamiento local: se genera en memoria en cada arranque
+            return generateFont(pixelSize);
+        } catch (Exception | LinkageError e) {
+            Gdx.app.error(Constants.TAG, "Could not rasterize " + fontFile.path() + " at " + pixelSize + "px", e);
+            return null;
+        }
+    }
+
+    private FileHandle cacheFile(int pixelSize, String suffix) {
+        if (!Gdx.files.isLocalStorageAvailable()) return null;
+        return Gdx.files.local(Constants.PATH_FONT_CACHE + keyPrefix + "_" + pixelSize + suffix);
+    }
+
+    private FileHandle pageFile(int pixelSize, int page) {
+        return cacheFile(pixelSize, "_" + page + ".png");
+    }
+
+    private FreeTypeFontGenerator.FreeTypeFontParameter createParameter(int pixelSize) {
+        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+        parameter.size = pixelSize;
+        parameter.characters = characters;
+        parameter.incremental = false;
+        parameter.minFilter = Texture.TextureFilter.Linear;
+        parameter.magFilter = Texture.TextureFilter.Linear;
+        return parameter;
+    }
+
+    private BitmapFont generateFont(int pixelSize) {
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(fontFile);
+        try {
+            return generator.generateFont(createParameter(pixelSize));
+        } finally {
+            generator.dispose();
+        }
+    }
+
+    /**
+     * Rasteriza con un PixmapPacker propio para poder guardar sus páginas.
+     */
+    private boolean rasterizeToCache(FileHandle meta, int pixelSize) {
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(fontFile);
+        PixmapPacker packer = new PixmapPacker(Constants.FONT_PAGE_SIZE, Constants.FONT_PAGE_SIZE,
+            Pixmap.Format.RGBA8888, 1, false);
+        try {
+            FreeTypeFontGenerator.FreeTypeFontParameter parameter = createParameter(pixelSize);
+            parameter.packer = packer;
+            BitmapFont.BitmapFontData data = generator.generateData(parameter);
+
+            Array<PixmapPacker.Page> pages = packer.getPages();
+            for (int i = 0; i < pages.size; i++) {
+                PixmapIO.writePNG(pageFile(pixelSize, i), pages.get(i).getPixmap());
+            }
+            return writeMeta(meta, data, pixelSize, pages.size);
+        } catch (Exception e) {
+            Gdx.app.error(Constants.TAG, "Could not write font cache " + meta.path(), e);
+            meta.delete();
+            return false;
+        } finally {
+            packer.dispose();
+            generator.dispose();
+        }
+    }
+
+    private boolean writeMeta(FileHandle file, BitmapFont.BitmapFontData data, int pixelSize, int pageCount) {
+        DataOutputStream out = null;
+        boolean written = false;
+        try {
+            out = new DataOutputStream(file.write(false, IO_BUFFER_SIZE));
+            out.writeInt(CACHE_MAGIC);
+            out.writeInt(Constants.FONT_CACHE_VERSION);
+            out.writeInt(pixelSize);
+            out.writeInt(pageCount);
+
+            out.writeFloat(data.padTop);
+            out.writeFloat(data.padRight);
+            out.writeFloat(data.padBottom);
+            out.writeFloat(data.padLeft);
+            out.writeFloat(data.lineHeight);
+            out.writeFloat(data.capHeight);
+            out.writeFloat(data.ascent);
+            out.writeFloat(data.descent);
+            out.writeFloat(data.down);
+            out.writeFloat(data.blankLineScale);
+            out.writeFloat(data.cursorX);
+            out.writeFloat(data.spaceXadvance);
+            out.writeFloat(data.xHeight);
+
+            int count = 0;
+            for (BitmapFont.Glyph[] page : data.glyphs) {
+                if (page == null) continue;
+                for (BitmapFont.Glyph glyph : page) if (glyph != null) count++;
+            }
+            out.writeInt(count);
+            for (BitmapFont.Glyph[] page : data.glyphs) {
+                if (page == null) continue;
+                for (BitmapFont.Glyph glyph : page) if (glyph != null) writeGlyph(out, glyph);
+            }
+
+            out.writeBoolean(data.missingGlyph != null);
+            if (data.missingGlyph != null) writeGlyph(out, data.missingGlyph);
+
+            out.close();
+            written = true;
+        } catch (Exception e) {
+            Gdx.app.error(Constants.TAG, "Could not write font cache " + file.path(), e);
+        } finally {
+            StreamUtils.closeQuietly(out);
+            if (!written) file.delete();
+        }
+        return written;
+    }
+
+    private static void writeGlyph(DataOutputStream out, BitmapFont.Glyph glyph) throws IOException {
+        out.writeInt(glyph.id);
+        out.writeShort(glyph.srcX);
+        out.writeShort(glyph.srcY);
+        out.writeShort(glyph.width);
+        out.writeShort(glyph.height);
+        out.writeShort(glyph.xoffset);
+        out.writeShort(glyph.yoffset);
+        out.writeShort(glyph.xadvance);
+        out.writeByte(glyph.page);
+        out.writeBoolean(glyph.fixedWidth);
+
+        int kerningCount = 0;
+        if (glyph.kerning != null) {
+            for (byte[] page : glyph.kerning) {
+                if (page == null) continue;
+                for (byte value : page) if (value != 0) kerningCount++;
+            }
+        }
+        out.writeShort(kerningCount);
+        if (kerningCount == 0) return;
+        for (int p = 0; p < glyph.kerning.length; p++) {
+            byte[] page = glyph.kerning[p];
+            if (page == null) continue;
+            for (int i = 0; i < page.length; i++) {
+                if (page[i] == 0) continue;
+                out.writeInt(p * KERNING_PAGE_SIZE + i);
+                out.writeByte(page[i]);
+            }
+        }
+    }
+
+    private static BitmapFont.Glyph readGlyph(DataInputStream in) throws IOException {
+        BitmapFont.Glyph glyph = new BitmapFont.Glyph();
+        glyph.id = in.readInt();
+        glyph.srcX = in.readShort();
+        glyph.srcY = in.readShort();
+        glyph.width = in.readShort();
+        glyph.height = in.readShort();
+        glyph.xoffset = in.readShort();
+        glyph.yoffset = in.readShort();
+        glyph.xadvance = in.readShort();
+        glyph.page = in.readByte();
+        glyph.fixedWidth = in.readBoolean();
+
+        int kerningCount = in.readShort();
+        for (int i = 0; i < kerningCount; i++) {
+            int ch = in.readInt();
+            glyph.setKerning(ch, in.readByte());
+        }
+        return glyph;
+    }
+
+    /**
+     * Lee métricas y páginas del caché; null si no existe, es de otra versión o está corrupto.
+     */
+    private BitmapFont readCache(FileHandle file, int pixelSize) {
+        if (file == null || !file.exists()) return null;
+
+        DataInputStream in = null;
+        Array<TextureRegion> regions = new Array<>();
+        try {
+            in = new DataInputStream(file.read(IO_BUFFER_SIZE));
+            if (in.readInt() != CACHE_MAGIC
+                || in.readInt() != Constants.FONT_CACHE_VERSION
+                || in.readInt() != pixelSize) {
+                return null;
+            }
+            int pageCount = in.readInt();
+
+            BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData();
+            data.padTop = in.readFloat();
+            data.padRight = in.readFloat();
+            data.padBottom = in.readFloat();
+            data.padLeft = in.readFloat();
+            data.lineHeight = in.readFloat();
+            data.capHeight = in.readFloat();
+            data.ascent = in.readFloat();
+            data.descent = in.readFloat();
+            data.down = in.readFloat();
+            data.blankLineScale = in.readFloat();
+            data.cursorX = in.readFloat();
+            data.spaceXadvance = in.readFloat();
+            data.xHeight = in.readFloat();
+
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                BitmapFont.Glyph glyph = readGlyph(in);
+                data.setGlyph(glyph.id, glyph);
+            }
+            if (in.readBoolean()) data.missingGlyph = readGlyph(in);
+
+            for (int i = 0; i < pageCount; i++) {
+                Texture texture = new Texture(pageFile(pixelSize, i));
+                texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+                regions.add(new TextureRegion(texture));
+            }
+
+            BitmapFont font = new BitmapFont(data, regions, true);
+            font.setOwnsTexture(true);
+            return font;
+        } catch (Exception e) {
+            Gdx.app.error(Constants.TAG, "Font cache unreadable, rasterizing again: " + file.path(), e);
+            for (TextureRegion region : regions) region.getTexture().dispose();
+            file.delete();
+            return null;
+        } finally {
+            StreamUtils.closeQuietly(in);
+        }
+    }
+}
@@ -2,9 +2,12 @@ package com.waifu.memory.managers;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntSet;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.ObjectMap;
+import java.util.Arrays;
 
 /**
  * Sistema de localización multi-idioma para IQ Waifu Memory
@@ -52,9 +55,18 @@ public class LocalizationManager {
         }
     }
     
+    /**
+     * Avisa tras cargar los textos de un idioma nuevo (por ejemplo, para rehacer
+     * las fuentes con sus glifos).
+     */
+    public interface LanguageListener {
+        void onLanguageChanged(Language language);
+    }
+    
     private Language currentLanguage;
     private final ObjectMap<String, String> strings;
     private final Preferences prefs;
+    private final Array<LanguageListener> listeners = new Array<>();
     
     public LocalizationManager() {
         this.strings = new ObjectMap<>();
@@ -207,6 +219,18 @@ public class LocalizationManager {
         // Guardar preferencia
         prefs.putString(PREF_LANGUAGE, language.code);
         prefs.flush();
+        
+        for (LanguageListener listener : listeners) {
+            listener.onLanguageChanged(language);
+        }
+    }
+    
+    public void addLanguageListener(LanguageListener listener) {
+        if (!listeners.contains(listener, true)) listeners.add(listener);
+    }
+    
+    public void removeLanguageListener(LanguageListener listener) {
+        listeners.removeValue(listener, true);
     }
     
     /**
@@ -216,6 +240,26 @@ public class LocalizationManager {
         return currentLanguage;
     }
     
+    /**
+     * Caracteres distintos de base más los de todos los textos del idioma actual,
+     * ordenados. Es lo que tiene que incluir una fuente rasterizada para este idioma.
+     */
+    public String getGlyphs(String base) {
+        IntSet seen = new IntSet();
+        for (int i = 0; i < base.length(); i++) seen.add(base.charAt(i));
+        for (String text : strings.values()) {
+            for (int i = 0; i < text.length(); i++) seen.add(text.charAt(i));
+        }
+        int[] chars = new int[seen.size];
+        IntSet.IntSetIterator it = seen.iterator();
+        for (int i = 0; it.hasNext; i++) chars[i] = it.next();
+        Arrays.sort(chars);
+
+        StringBuilder glyphs = new StringBuilder(chars.length);
+        for (int c : chars) glyphs.append((char) c);
+        return glyphs.toString();
+    }
+
     /**
      * Obtiene todas las opciones de idioma
      */
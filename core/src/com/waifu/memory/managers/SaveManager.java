@@ -35,7 +35,7 @@ public class SaveManager {
                 return;
             }
 
-            PlayerData loaded = json.fromJson(PlayerData.class, jsonData);
+            PlayerData loaded = fromJson(jsonData);
             if (loaded == null) {
                 loadBackupOrReset();
                 ensureMaps();
@@ -54,7 +54,7 @@ public class SaveManager {
         try {
             String backup = prefs.getString(KEY_BACKUP, "");
             if (backup != null && !backup.isEmpty()) {
-                PlayerData loaded = json.fromJson(PlayerData.class, backup);
+                PlayerData loaded = fromJson(backup);
                 if (loaded != null) {
                     playerData = loaded;
                     return;
@@ -76,13 +76,24 @@ public class SaveManager {
                 prefs.putString(KEY_BACKUP, previous);
             }
 
-            String jsonData = json.toJson(playerData);
+            String jsonData = toJson(playerData);
             prefs.putString(KEY_PLAYER_DATA, jsonData);
             prefs.flush();
         } catch (Exception ignored) {
         }
     }
 
+    /**
+     * Serializa con la misma configuración que save(), sin tocar las preferencias.
+     */
+    public String toJson(PlayerData data) {
+        return json.toJson(data);
+    }
+
+    public PlayerData fromJson(String data) {
+        return json.fromJson(PlayerData.class, data);
+    }
+
     public PlayerData getPlayerData() {
         return playerData;
     }
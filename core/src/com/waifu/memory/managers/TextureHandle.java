@@ -0,0 +1,56 @@
+package com.waifu.memory.managers;
+
+import com.badlogic.gdx.graphics.Texture;
+
+/**
+ * Referencia contada a una textura de personaje.
+ * Mientras el handle no se libere, la textura no se expulsa ni se destruye;
+ * un unload pedido en ese tiempo se aplica al soltar la última referencia.
+ */
+public class TextureHandle {
+
+    private final AssetManager manager;
+    final String key;
+    final String owner;
+
+    Texture texture; // null hasta que termine la carga o si el archivo no existe
+    private boolean released = false;
+
+    TextureHandle(AssetManager manager, String key, String owner) {
+        this.manager = manager;
+        this.key = key;
+        this.owner = owner;
+    }
+
+    /**
+     * Textura real o el placeholder de personaje si aún no está cargada.
+     */
+    public Texture get() {
+        if (released || texture == null) return manager.getCharacterPlaceholderTexture();
+        return texture;
+    }
+
+    public boolean isLoaded() {
+        return !released && texture != null;
+    }
+
+    public boolean isReleased() {
+        return released;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void release() {
+        if (released) return;
+        released = true;
+        manager.releaseHandle(this);
+        texture = null;
+    }
+
+    @Override
+    public String toString() {
+        return "TextureHandle[" + key + ", owner=" + owner + "]";
+    }
+}
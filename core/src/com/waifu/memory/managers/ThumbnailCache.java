@@ -0,0 +1,281 @@
+package com.waifu.memory.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncTask;
+import com.waifu.memory.utils.Constants;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Miniaturas de la galería.
+ * Cada miniatura se genera una sola vez, se guarda en almacenamiento local (CIM)
+ * y se copia a una celda de un atlas fijo. Solo se cargan las miniaturas de la
+ * ventana visible más una pantalla de margen; las celdas fuera de la ventana se reutilizan.
+ */
+public class ThumbnailCache implements Disposable {
+
+    private static final int COLUMNS = Constants.THUMB_ATLAS_SIZE / Constants.THUMB_WIDTH;
+    private static final int ROWS = Constants.THUMB_ATLAS_SIZE / Constants.THUMB_HEIGHT;
+    private static final int CAPACITY = COLUMNS * ROWS;
+
+    private static class DecodedThumb {
+        final int cell;
+        final int characterId;
+        final int variant;
+        final Pixmap pixmap;
+
+        DecodedThumb(int cell, int characterId, int variant, Pixmap pixmap) {
+            this.cell = cell;
+            this.characterId = characterId;
+            this.variant = variant;
+            this.pixmap = pixmap;
+        }
+    }
+
+    private final AssetManager assetManager;
+    private final Texture atlas;
+    private final TextureRegion[] cellRegions = new TextureRegion[CAPACITY];
+
+    private final int[] cellCharacter = new int[CAPACITY];
+    private final int[] cellVariant = new int[CAPACITY];
+    private final boolean[] cellReady = new boolean[CAPACITY];
+    private final int[] characterCell = new int[Constants.TOTAL_CHARACTERS];
+    private final long[] retryAfter = new long[Constants.TOTAL_CHARACTERS];
+    // Solo lo toca el hilo de trabajo: cada tier que falta se avisa una vez
+    private final ObjectSet<String> reportedMissing = new ObjectSet<>();
+
+    private int windowFirst = 0;
+    private int windowLast = -1;
+    private int visibleFirst = 0;
+    private int visibleLast = -1;
+
+    private final AsyncExecutor executor = new AsyncExecutor(1, "ThumbnailDecoder");
+    private final ConcurrentLinkedQueue<DecodedThumb> decodedQueue = new ConcurrentLinkedQueue<>();
+
+    public ThumbnailCache(AssetManager assetManager) {
+        this.assetManager = assetManager;
+        atlas = new Texture(Constants.THUMB_ATLAS_SIZE, Constants.THUMB_ATLAS_SIZE, Pixmap.Format.RGBA8888);
+        atlas.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+
+        for (int i = 0; i < CAPACITY; i++) {
+            int x = (i % COLUMNS) * Constants.THUMB_WIDTH;
+            int y = (i / COLUMNS) * Constants.THUMB_HEIGHT;
+            cellRegions[i] = new TextureRegion(atlas, x, y, Constants.THUMB_WIDTH, Constants.THUMB_HEIGHT);
+            cellCharacter[i] = -1;
+            cellVariant[i] = -1;
+        }
+        for (int i = 0; i < characterCell.length; i++) characterCell[i] = -1;
+    }
+
+    /**
+     * Define qué personajes se ven y cuáles entran en la ventana de precarga.
+     * Las celdas fuera de la ventana pasan a ser reutilizables.
+     */
+    public void setWindow(int visibleFirst, int visibleLast, int lookahead) {
+        this.visibleFirst = visibleFirst;
+        this.visibleLast = visibleLast;
+        this.windowFirst = Math.max(0, visibleFirst - lookahead);
+        this.windowLast = Math.min(Constants.TOTAL_CHARACTERS - 1, visibleLast + lookahead);
+    }
+
+    public int getWindowFirst() {
+        return windowFirst;
+    }
+
+    public int getWindowLast() {
+        return windowLast;
+    }
+
+    /**
+     * Pide la miniatura de un personaje. No hace nada si ya está cargada o en curso,
+     * ni hasta THUMB_RETRY_DELAY_MS después de un fallo de decodificación.
+     */
+    public void request(int characterId, int variant) {
+        if (!Constants.isValidCharacterId(characterId) || !Constants.isValidVariant(variant)) return;
+
+        int cell = characterCell[characterId];
+        if (cell >= 0 && cellVariant[cell] == variant) return;
+        if (TimeUtils.millis() < retryAfter[characterId]) return;
+
+        if (cell < 0) {
+            cell = findCell(isVisible(characterId));
+            if (cell < 0) return;
+        }
+
+        int previous = cellCharacter[cell];
+        if (previous >= 0 && previous != characterId) characterCell[previous] = -1;
+
+        cellCharacter[cell] = characterId;
+        cellVariant[cell] = variant;
+        cellReady[cell] = false;
+        characterCell[characterId] = cell;
+
+        submitDecode(cell, characterId, variant);
+    }
+
+    /**
+     * Región lista para dibujar o null si la miniatura aún no está cargada.
+     */
+    public TextureRegion get(int characterId) {
+        if (!Constants.isValidCharacterId(characterId)) return null;
+        int cell = characterCell[characterId];
+        if (cell < 0 || !cellReady[cell]) return null;
+        return cellRegions[cell];
+    }
+
+    /**
+     * Copia a la GPU las miniaturas decodificadas dentro del presupuesto por frame.
+     *
+     * @return true si alguna miniatura nueva quedó lista para get()
+     */
+    public boolean update() {
+        if (decodedQueue.isEmpty()) return false;
+
+        long start = TimeUtils.nanoTime();
+        long budgetNanos = (long) (Constants.ASSET_UPLOAD_BUDGET_MS * 1000000f);
+
+        boolean applied = false;
+        DecodedThumb decoded;
+        while ((decoded = decodedQueue.poll()) != null) {
+            applied |= applyDecoded(decoded);
+            if (TimeUtils.nanoTime() - start >= budgetNanos) break;
+        }
+        return applied;
+    }
+
+    private boolean applyDecoded(DecodedThumb decoded) {
+        // La celda pudo reasignarse mientras se decodificaba
+        boolean current = cellCharacter[decoded.cell] == decoded.characterId
+            && cellVariant[decoded.cell] == decoded.variant;
+
+        if (decoded.pixmap == null) {
+            // Se libera la celda para que request() pueda reintentarlo más tarde
+            if (current) {
+                releaseCell(decoded.cell);
+                retryAfter[decoded.characterId] = TimeUtils.millis() + Constants.THUMB_RETRY_DELAY_MS;
+            }
+            return false;
+        }
+
+        boolean applied = false;
+
+        if (current) {
+            int x = (decoded.cell % COLUMNS) * Constants.THUMB_WIDTH;
+            int y = (decoded.cell / COLUMNS) * Constants.THUMB_HEIGHT;
+            atlas.draw(decoded.pixmap, x, y);
+            cellReady[decoded.cell] = true;
+            applied = true;
+        }
+
+        decoded.pixmap.dispose();
+        return applied;
+    }
+
+    private void releaseCell(int cell) {
+        int characterId = cellCharacter[cell];
+        if (characterId >= 0 && characterCell[characterId] == cell) characterCell[characterId] = -1;
+        cellCharacter[cell] = -1;
+        cellVariant[cell] = -1;
+        cellReady[cell] = false;
+    }
+
+    private boolean isVisible(int characterId) {
+        return characterId >= visibleFirst && characterId <= visibleLast;
+    }
+
+    private boolean isInWindow(int characterId) {
+        return characterId >= windowFirst && characterId <= windowLast;
+    }
+
+    /**
+     * Celda libre o reutilizable. Las miniaturas visibles pueden desplazar
+     * a las de precarga si el atlas está lleno.
+     */
+    private int findCell(boolean forVisible) {
+        int lookaheadCell = -1;
+        for (int i = 0; i < CAPACITY; i++) {
+            int c = cellCharacter[i];
+            if (c < 0 || !isInWindow(c)) return i;
+            if (forVisible && lookaheadCell < 0 && !isVisible(c)) lookaheadCell = i;
+        }
+        return lookaheadCell;
+    }
+
+    private void submitDecode(final int cell, final int characterId, final int variant) {
+        executor.submit(new AsyncTask<Void>() {
+            @Override
+            public Void call() {
+                decodedQueue.add(new DecodedThumb(cell, characterId, variant, loadThumbnail(characterId, variant)));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Lee la miniatura del caché local o la genera desde el tier de un cuarto del
+     * arte y la guarda para los siguientes arranques. Corre en el hilo de trabajo.
+     * Nunca decodifica el arte a tamaño completo: sin el tier (generateTextureTiers)
+     * avisa y devuelve null.
+     */
+    private Pixmap loadThumbnail(int characterId, int variant) {
+        FileHandle cached = null;
+        if (Gdx.files.isLocalStorageAvailable()) {
+            cached = Gdx.files.local(Constants.getThumbnailCachePath(characterId, variant));
+            if (cached.exists()) {
+                try {
+                    return PixmapIO.readCIM(cached);
+                } catch (Exception e) {
+                    cached.delete();
+                }
+            }
+        }
+
+        String path = Constants.getTierPath(Constants.getCharacterPath(characterId, variant), Constants.TEXTURE_TIER_QUARTER);
+        Pixmap source = assetManager.decodePixmap(path);
+        if (source == null) {
+            if (reportedMissing.add(path)) {
+                Gdx.app.error(Constants.TAG, "Thumbnail source missing or unreadable: " + path + " (run :core:generateTextureTiers)");
+            }
+            return null;
+        }
+
+        try {
+            Pixmap thumb = new Pixmap(Constants.THUMB_WIDTH, Constants.THUMB_HEIGHT, Pixmap.Format.RGBA8888);
+            thumb.setBlending(Pixmap.Blending.None);
+            thumb.setFilter(Pixmap.Filter.BiLinear);
+            thumb.drawPixmap(source, 0, 0, source.getWidth(), source.getHeight(), 0, 0, thumb.getWidth(), thumb.getHeight());
+
+            if (cached != null) {
+                try {
+                    PixmapIO.writeCIM(cached, thumb);
+                } catch (Exception ignored) {
+                }
+            }
+            return thumb;
+        } catch (Exception e) {
+            return null;
+        } finally {
+            source.dispose();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        executor.dispose();
+
+        DecodedThumb decoded;
+        while ((decoded = decodedQueue.poll()) != null) {
+            if (decoded.pixmap != null) decoded.pixmap.dispose();
+        }
+
+        atlas.dispose();
+    }
+}
@@ -0,0 +1,279 @@
+package com.waifu.memory.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Pool;
+import com.waifu.memory.utils.Constants;
+
+/**
+ * Recursos de UI compartidos entre pantallas: fuentes a escalas fijas, un único
+ * ShapeRenderer y un pool de GlyphLayout. Las pantallas los adquieren en el
+ * constructor y los liberan en dispose(); con cero referencias siguen vivos para
+ * la siguiente pantalla, así que navegar no vuelve a subir texturas ni compilar shaders.
+ *
+ * Si assets/fonts tiene la fuente de la UI, cada escala se rasteriza con FreeType
+ * al tamaño en píxeles con el que se ve en pantalla (FontCache). Si no, todas las
+ * escalas comparten la textura de la fuente por defecto de libGDX.
+ * Se entregan en blanco: quien cambie el color debe restaurarlo tras dibujar.
+ *
+ * Al cambiar de idioma (otros glifos) o de tamaño de ventana (otros píxeles por
+ * unidad) las fuentes se rehacen y sube getFontGeneration(). Las fuentes que aún
+ * tenga una pantalla siguen vivas hasta que las libere con releaseFont().
+ */
+public class UiResourceManager implements Disposable {
+
+    private static final String DEFAULT_FONT = "com/badlogic/gdx/utils/lsans-15";
+
+    /**
+     * Escalas de fuente usadas por las pantallas.
+     */
+    public enum FontSize {
+        SMALL(1.5f),
+        TEXT(2f),
+        BUTTON(2.5f),
+        TITLE(3f),
+        BIG(4f);
+
+        public final float scale;
+
+        FontSize(float scale) {
+            this.scale = scale;
+        }
+    }
+
+    private final LocalizationManager localization;
+    private FontCache fontCache;
+    // Píxeles por unidad de mundo con FitViewport, a la que se rasterizan las fuentes
+    private float pixelScale;
+    private int fontGeneration;
+
+    private Texture fontTexture;
+    private TextureRegion fontRegion;
+    private final BitmapFont[] fonts = new BitmapFont[FontSize.values().length];
+    private final int[] fontRefs = new int[FontSize.values().length];
+
+    // Fuentes de generaciones anteriores que alguna pantalla aún no ha soltado
+    private final Array<BitmapFont> retiredFonts = new Array<>();
+    private final IntArray retiredRefs = new IntArray();
+
+    private ShapeRenderer shapeRenderer;
+    private int shapeRendererRefs;
+
+    private final Pool<GlyphLayout> layoutPool = new Pool<GlyphLayout>(8) {
+        @Override
+        protected GlyphLayout newObject() {
+            return new GlyphLayout();
+        }
+    };
+    private int layoutsOut;
+
+    public UiResourceManager(LocalizationManager localization) {
+        this.localization = localization;
+        this.pixelScale = computePixelScale(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        this.fontCache = createFontCache(localization);
+
+        localization.addLanguageListener(new LocalizationManager.LanguageListener() {
+            @Override
+            public void onLanguageChanged(LocalizationManager.Language language) {
+                fontCache = createFontCache(UiResourceManager.this.localization);
+                invalidateFonts();
+            }
+        });
+    }
+
+    private static FontCache createFontCache(LocalizationManager localization) {
+        String code = localization.getCurrentLanguage().code;
+        FileHandle fontFile = findFontFile(Constants.FONT_UI_NAME + "_" + code);
+        if (fontFile == null) fontFile = findFontFile(Constants.FONT_UI_NAME);
+
+        // Los textos fijos de las pantallas usan latín básico y Latin-1
+        String characters = fontFile != null ? localization.getGlyphs(FreeTypeFontGenerator.DEFAULT_CHARS) : "";
+
+        if (fontFile != null) {
+            Gdx.app.log(Constants.TAG, "UI font " + fontFile.path() + " (" + characters.length() + " glyphs, " + code + ")");
+        }
+        return new FontCache(fontFile, characters);
+    }
+
+    private static float computePixelScale(int width, int height) {
+        float scale = Math.min(width / Constants.WORLD_WIDTH, height / Constants.WORLD_HEIGHT);
+        return scale > 0f ? scale : 1f;
+    }
+
+    private static FileHandle findFontFile(String name) {
+        for (String extension : Constants.FONT_EXTENSIONS) {
+            FileHandle file = Gdx.files.internal(Constants.PATH_FONTS + name + extension);
+            if (file.exists()) return file;
+        }
+        return null;
+    }
+
+    // ========== FUENTES ==========
+
+    public BitmapFont acquireFont(FontSize size) {
+        BitmapFont font = fonts[size.ordinal()];
+        if (font == null) {
+            font = createFont(size);
+            fonts[size.ordinal()] = font;
+        }
+        fontRefs[size.ordinal()]++;
+        font.setColor(Color.WHITE);
+        return font;
+    }
+
+    /**
+     * Suelta una fuente de acquireFont(). Vale también para las de una generación
+     * anterior: se liberan al soltar su última referencia.
+     */
+    public void releaseFont(BitmapFont font) {
+        for (int i = 0; i < fonts.length; i++) {
+            if (fonts[i] == font && fontRefs[i] > 0) {
+                fontRefs[i]--;
+                return;
+            }
+        }
+
+        int retired = retiredFonts.indexOf(font, true);
+        if (retired < 0) {
+            Gdx.app.error(Constants.TAG, "Font released more times than acquired");
+            return;
+        }
+        int refs = retiredRefs.get(retired) - 1;
+        if (refs > 0) {
+            retiredRefs.set(retired, refs);
+            return;
+        }
+        font.dispose();
+        retiredFonts.removeIndex(retired);
+        retiredRefs.removeIndex(retired);
+    }
+
+    /**
+     * Sube cada vez que se rehacen las fuentes: las pantallas que la vean cambiar
+     * deben soltar las suyas y volver a pedirlas.
+     */
+    public int getFontGeneration() {
+        return fontGeneration;
+    }
+
+    /**
+     * Nuevo tamaño de ventana. Solo las fuentes FreeType dependen de los píxeles por
+     * unidad; la fuente por defecto se escala igual a cualquier tamaño.
+     */
+    public void resize(int width, int height) {
+        float scale = computePixelScale(width, height);
+        if (scale == pixelScale) return;
+        pixelScale = scale;
+        if (fontCache.isAvailable()) invalidateFonts();
+    }
+
+    private void invalidateFonts() {
+        for (int i = 0; i < fonts.length; i++) {
+            if (fonts[i] == null) continue;
+            if (fontRefs[i] > 0) {
+                retiredFonts.add(fonts[i]);
+                retiredRefs.add(fontRefs[i]);
+            } else {
+                fonts[i].dispose();
+            }
+            fonts[i] = null;
+            fontRefs[i] = 0;
+        }
+        fontGeneration++;
+    }
+
+    private BitmapFont createFont(FontSize size) {
+        if (fontCache.isAvailable()) {
+            int pixelSize = Math.max(Constants.FONT_MIN_PIXEL_SIZE, Math.round(Constants.FONT_BASE_SIZE * size.scale * pixelScale));
+            BitmapFont font = fontCache.getFont(pixelSize);
+            if (font != null) {
+                font.getData().setScale(1f / pixelScale);
+                return font;
+            }
+        }
+
+        if (fontRegion == null) {
+            fontTexture = new Texture(Gdx.files.classpath(DEFAULT_FONT + ".png"));
+            fontRegion = new TextureRegion(fontTexture);
+        }
+        // Cada escala necesita su BitmapFontData; la textura es la misma para todas
+        BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData(Gdx.files.classpath(DEFAULT_FONT + ".fnt"), false);
+        BitmapFont font = new BitmapFont(data, fontRegion, true);
+        font.getData().setScale(size.scale);
+        return font;
+    }
+
+    // ========== SHAPE RENDERER ==========
+
+    public ShapeRenderer acquireShapeRenderer() {
+        if (shapeRenderer == null) shapeRenderer = new ShapeRenderer();
+        shapeRendererRefs++;
+        return shapeRenderer;
+    }
+
+    public void releaseShapeRenderer() {
+        if (shapeRendererRefs == 0) {
+            Gdx.app.error(Constants.TAG, "ShapeRenderer released more times than acquired");
+            return;
+        }
+        shapeRendererRefs--;
+    }
+
+    // ========== GLYPH LAYOUTS ==========
+
+    public GlyphLayout obtainLayout() {
+        layoutsOut++;
+        return layoutPool.obtain();
+    }
+
+    public void freeLayout(GlyphLayout layout) {
+        if (layout == null) return;
+        layoutsOut--;
+        layoutPool.free(layout);
+    }
+
+    /**
+     * Referencias sin liberar: fuentes, ShapeRenderer y GlyphLayouts fuera del pool.
+     */
+    public int getLiveReferenceCount() {
+        int count = shapeRendererRefs + layoutsOut;
+        for (int refs : fontRefs) count += refs;
+        for (int i = 0; i < retiredRefs.size; i++) count += retiredRefs.get(i);
+        return count;
+    }
+
+    @Override
+    public void dispose() {
+        int live = getLiveReferenceCount();
+        if (live > 0) Gdx.app.error(Constants.TAG, live + " UI resource references still live on dispose");
+
+        for (int i = 0; i < fonts.length; i++) {
+            if (fonts[i] != null) fonts[i].dispose();
+            fonts[i] = null;
+            fontRefs[i] = 0;
+        }
+        for (BitmapFont font : retiredFonts) font.dispose();
+        retiredFonts.clear();
+        retiredRefs.clear();
+        if (fontTexture != null) fontTexture.dispose();
+        fontTexture = null;
+        fontRegion = null;
+
+        if (shapeRenderer != null) shapeRenderer.dispose();
+        shapeRenderer = null;
+        shapeRendererRefs = 0;
+
+        layoutPool.clear();
+        layoutsOut = 0;
+    }
+}
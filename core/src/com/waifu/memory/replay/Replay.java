@@ -0,0 +1,160 @@
+package com.waifu.memory.replay;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.waifu.memory.utils.Constants;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Partida grabada: nivel, semilla del RNG, tiempo inicial y la secuencia de
+ * eventos en el orden en que ocurrieron, con su tiempo de juego en milisegundos.
+ * Cada paso de GameSession.update es un evento con su delta en microsegundos, así
+ * que la repetición avanza con los mismos pasos que la partida y no solo a los
+ * mismos milisegundos (con otros pasos un toque puede caer en mitad de un volteo).
+ * Formato binario: cabecera fija y luego por evento tipo (byte), delta de tiempo
+ * y argumento como varint; unos 5 bytes por frame jugado.
+ */
+public class Replay {
+
+    public static final int EVENT_TAP = 0;         // arg = celda de la carta
+    public static final int EVENT_HINT = 1;        // pista aplicada tras el anuncio
+    public static final int EVENT_EXTRA_TIME = 2;  // tiempo extra tras la derrota
+    public static final int EVENT_FRAME = 3;       // arg = delta en microsegundos
+
+    private static final int MAGIC = 0x49515250; // "IQRP"
+    private static final int VERSION = 2;
+
+    private final int levelNumber;
+    private final long seed;
+    private final float maxTime;
+
+    private final ByteArray types = new ByteArray();
+    private final IntArray times = new IntArray();
+    private final IntArray args = new IntArray();
+
+    public Replay(int levelNumber, long seed, float maxTime) {
+        this.levelNumber = levelNumber;
+        this.seed = seed;
+        this.maxTime = maxTime;
+    }
+
+    public void add(int type, int timeMs, int arg) {
+        // Los tiempos nunca retroceden: el delta se guarda sin signo
+        int last = times.size > 0 ? times.peek() : 0;
+        types.add((byte) type);
+        times.add(Math.max(last, timeMs));
+        args.add(arg);
+    }
+
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public float getMaxTime() {
+        return maxTime;
+    }
+
+    public int size() {
+        return types.size;
+    }
+
+    public int getType(int index) {
+        return types.get(index);
+    }
+
+    public int getTimeMs(int index) {
+        return times.get(index);
+    }
+
+    public int getArg(int index) {
+        return args.get(index);
+    }
+
+    public boolean write(FileHandle file) {
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(file.write(false, 4096));
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeShort(levelNumber);
+            out.writeLong(seed);
+            out.writeFloat(maxTime);
+            writeVarInt(out, types.size);
+
+            int last = 0;
+            for (int i = 0; i < types.size; i++) {
+                out.writeByte(types.get(i));
+                writeVarInt(out, times.get(i) - last);
+                writeVarInt(out, args.get(i));
+                last = times.get(i);
+            }
+            return true;
+        } catch (IOException e) {
+            Gdx.app.error(Constants.TAG, "Could not write replay: " + file.path(), e);
+            return false;
+        } finally {
+            StreamUtils.closeQuietly(out);
+        }
+    }
+
+    /**
+     * Lee una partida grabada o devuelve null si el archivo no es válido.
+     */
+    public static Replay read(FileHandle file) {
+        if (file == null || !file.exists()) return null;
+
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(file.read(4096));
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) return null;
+
+            int level = in.readShort();
+            long seed = in.readLong();
+            float maxTime = in.readFloat();
+            Replay replay = new Replay(level, seed, maxTime);
+
+            int count = readVarInt(in);
+            int time = 0;
+            for (int i = 0; i < count; i++) {
+                int type = in.readByte();
+                time += readVarInt(in);
+                replay.add(type, time, readVarInt(in));
+            }
+            return replay;
+        } catch (IOException e) {
+            Gdx.app.error(Constants.TAG, "Could not read replay: " + file.path(), e);
+            return null;
+        } finally {
+            StreamUtils.closeQuietly(in);
+        }
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0 && shift < 35);
+        return value;
+    }
+}
@@ -0,0 +1,64 @@
+package com.waifu.memory.replay;
+
+import com.waifu.memory.systems.GameSession;
+
+/**
+ * Aplica los eventos de una partida grabada sobre una GameSession creada con la
+ * misma semilla y tiempo inicial. No depende de GL: sirve igual en pantalla que
+ * en una simulación.
+ *
+ * Los eventos se aplican en el orden grabado y cada frame grabado es un
+ * session.update con el mismo delta, así que la sesión pasa por los mismos estados
+ * que en la partida aunque la pantalla dibuje a otro ritmo.
+ */
+public class ReplayPlayer {
+
+    private final Replay replay;
+    private final GameSession session;
+    private int cursor;
+
+    // Tiempo real de pantalla aún no consumido por frames grabados
+    private float pending;
+
+    public ReplayPlayer(Replay replay, GameSession session) {
+        this.replay = replay;
+        this.session = session;
+    }
+
+    public boolean isDone() {
+        return cursor >= replay.size();
+    }
+
+    /**
+     * Aplica los frames grabados que caben en delta y los eventos que hay entre ellos.
+     */
+    public void update(float delta) {
+        if (isDone()) {
+            session.update(delta);
+            return;
+        }
+
+        pending += delta;
+
+        while (cursor < replay.size()) {
+            int type = replay.getType(cursor);
+
+            if (type == Replay.EVENT_FRAME) {
+                float step = replay.getArg(cursor) / 1000000f;
+                if (step > pending) break;
+                pending -= step;
+                session.update(step);
+            } else if (type == Replay.EVENT_TAP) {
+                session.tapCell(replay.getArg(cursor));
+            } else if (type == Replay.EVENT_HINT) {
+                session.applyHint();
+            } else if (type == Replay.EVENT_EXTRA_TIME) {
+                session.applyExtraTime();
+            }
+            cursor++;
+        }
+
+        // Tras el último evento la partida ya terminó: no queda tiempo pendiente que aplicar
+        if (isDone()) pending = 0f;
+    }
+}
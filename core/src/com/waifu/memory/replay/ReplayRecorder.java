@@ -0,0 +1,52 @@
+package com.waifu.memory.replay;
+
+import com.badlogic.gdx.Gdx;
+import com.waifu.memory.utils.Constants;
+
+/**
+ * Graba los eventos de una partida con su tiempo de juego y guarda la última
+ * partida en almacenamiento local para poder reproducirla.
+ */
+public class ReplayRecorder {
+
+    private final Replay replay;
+
+    public ReplayRecorder(int levelNumber, long seed, float maxTime) {
+        this.replay = new Replay(levelNumber, seed, maxTime);
+    }
+
+    public void recordTap(float gameTimeSeconds, int cell) {
+        replay.add(Replay.EVENT_TAP, toMillis(gameTimeSeconds), cell);
+    }
+
+    /**
+     * Paso de GameSession.update mientras la partida corre, en microsegundos.
+     */
+    public void recordFrame(float gameTimeSeconds, int micros) {
+        replay.add(Replay.EVENT_FRAME, toMillis(gameTimeSeconds), micros);
+    }
+
+    public void recordHint(float gameTimeSeconds) {
+        replay.add(Replay.EVENT_HINT, toMillis(gameTimeSeconds), 0);
+    }
+
+    public void recordExtraTime(float gameTimeSeconds) {
+        replay.add(Replay.EVENT_EXTRA_TIME, toMillis(gameTimeSeconds), 0);
+    }
+
+    public Replay getReplay() {
+        return replay;
+    }
+
+    /**
+     * Sobrescribe la última partida grabada. Se llama al terminar el nivel.
+     */
+    public void save() {
+        if (!Gdx.files.isLocalStorageAvailable()) return;
+        replay.write(Gdx.files.local(Constants.REPLAY_LAST_PATH));
+    }
+
+    static int toMillis(float seconds) {
+        return Math.round(seconds * 1000f);
+    }
+}
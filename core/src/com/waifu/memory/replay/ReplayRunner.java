@@ -0,0 +1,35 @@
+package com.waifu.memory.replay;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.waifu.memory.IQWaifuMemory;
+import com.waifu.memory.screens.GameScreen;
+import com.waifu.memory.utils.Constants;
+
+/**
+ * Reproduce una partida grabada: abre el nivel con la misma semilla y tiempo
+ * inicial y aplica cada evento en su tiempo de juego. No toca los datos del jugador.
+ */
+public final class ReplayRunner {
+
+    private ReplayRunner() {
+    }
+
+    public static boolean start(IQWaifuMemory game, FileHandle file) {
+        Replay replay = Replay.read(file);
+        if (replay == null || !Constants.isValidLevel(replay.getLevelNumber())) {
+            Gdx.app.error(Constants.TAG, "Invalid replay: " + (file != null ? file.path() : "null"));
+            return false;
+        }
+
+        Gdx.app.log(Constants.TAG, "Replaying level " + replay.getLevelNumber()
+            + " (seed " + replay.getSeed() + ", " + replay.size() + " events)");
+        game.setScreen(new GameScreen(game, replay.getLevelNumber(), replay));
+        return true;
+    }
+
+    public static boolean startLast(IQWaifuMemory game) {
+        if (!Gdx.files.isLocalStorageAvailable()) return false;
+        return start(game, Gdx.files.local(Constants.REPLAY_LAST_PATH));
+    }
+}
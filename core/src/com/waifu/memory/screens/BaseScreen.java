@@ -6,11 +6,13 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.waifu.memory.IQWaifuMemory;
 import com.waifu.memory.data.PlayerData;
 import com.waifu.memory.managers.AudioManager;
+import com.waifu.memory.managers.UiResourceManager;
 import com.waifu.memory.utils.Constants;
 
 /**
@@ -26,6 +28,7 @@ public abstract class BaseScreen implements Screen {
     
     protected final com.waifu.memory.managers.AssetManager assetManager;
     protected final AudioManager audioManager;
+    protected final UiResourceManager uiResources;
     
     // FIX: Mantener referencia al InputProcessor para limpiarlo
     protected InputProcessor inputProcessor;
@@ -35,11 +38,27 @@ public abstract class BaseScreen implements Screen {
     private boolean transitionIn = true;
     private BaseScreen nextScreen = null;
     
+    // Render bajo demanda: solo se dibuja cuando algo pide un frame
+    private boolean renderOnDemand = false;
+    private boolean frameRequested = true;
+    private boolean continuing = false;
+    private float animationTimeLeft = 0f;
+    
+    private final Array<ScreenLayer> layers = new Array<>();
+    
+    // Generación de las fuentes que tiene la pantalla (UiResourceManager)
+    private int fontGeneration;
+    
+    // Pantallas creadas: distingue a la nueva GameScreen de la que aún no se ha destruido
+    private static int instanceCounter = 0;
+    private final String assetOwner;
+    
     public BaseScreen(IQWaifuMemory game) {
         this.game = game;
         this.batch = game.getBatch();
         this.assetManager = game.getAssetManager();
         this.audioManager = game.getAudioManager();
+        this.uiResources = game.getUiResources();
         
         this.camera = new OrthographicCamera();
         this.viewport = new FitViewport(Constants.WORLD_WIDTH, Constants.WORLD_HEIGHT, camera);
@@ -47,6 +66,8 @@ public abstract class BaseScreen implements Screen {
         this.camera.update();
         
         this.inputProcessor = null;
+        this.fontGeneration = uiResources.getFontGeneration();
+        this.assetOwner = getClass().getSimpleName() + "#" + (++instanceCounter);
     }
     
     /**
@@ -54,8 +75,15 @@ public abstract class BaseScreen implements Screen {
      * Las subclases deben llamar a este método en lugar de Gdx.input.setInputProcessor
      */
     protected void setInputProcessor(InputProcessor processor) {
-        this.inputProcessor = processor;
-        Gdx.input.setInputProcessor(processor);
+        this.inputProcessor = processor != null ? new RedrawOnInput(processor) : null;
+        Gdx.input.setInputProcessor(this.inputProcessor);
+    }
+    
+    /**
+     * InputProcessor de la pantalla aunque Gdx.input no lo guarde (backend headless)
+     */
+    public InputProcessor getInputProcessor() {
+        return inputProcessor;
     }
     
     /**
@@ -95,6 +123,15 @@ public abstract class BaseScreen implements Screen {
         return game.hasAdHandler() && game.getAdHandler().isBannerVisible();
     }
     
+    /**
+     * Nombre con el que esta pantalla adquiere handles de textura. Es único por
+     * instancia: al pasar de nivel la GameScreen nueva ya tiene handles vivos
+     * cuando se destruye la anterior y no deben contarse como fugas de esta.
+     */
+    public String getAssetOwner() {
+        return assetOwner;
+    }
+    
     protected PlayerData getPlayerData() {
         return game.getPlayerData();
     }
@@ -107,10 +144,94 @@ public abstract class BaseScreen implements Screen {
         nextScreen = screen;
         transitionIn = false;
         transitionAlpha = 0f;
+        requestFrame();
+    }
+    
+    /**
+     * Capa estática cacheada en un FrameBuffer. La pantalla la dibuja al principio de
+     * draw() y la invalida cuando cambia lo que pinta; se libera en dispose().
+     */
+    protected ScreenLayer createLayer(ScreenLayer.Painter painter) {
+        ScreenLayer layer = new ScreenLayer(viewport, painter);
+        layers.add(layer);
+        return layer;
+    }
+    
+    private void invalidateLayers() {
+        for (ScreenLayer layer : layers) layer.invalidate();
+    }
+    
+    /**
+     * UiResourceManager rehízo las fuentes (idioma o tamaño de ventana): la pantalla
+     * suelta las suyas con releaseFont(), pide las nuevas y pasa sus CachedText a ellas.
+     */
+    protected void reloadFonts() {}
+    
+    private void checkFonts() {
+        int generation = uiResources.getFontGeneration();
+        if (generation == fontGeneration) return;
+        fontGeneration = generation;
+        reloadFonts();
+        invalidateLayers();
+        requestFrame();
+    }
+    
+    // ========== RENDER BAJO DEMANDA ==========
+    
+    /**
+     * Las pantallas estáticas lo activan en el constructor: en show() se desactiva
+     * el render continuo y solo se dibuja con entrada, transiciones, animaciones
+     * pedidas con requestFrames() o markDirty(). hide() restaura el render continuo.
+     */
+    protected void setRenderOnDemand(boolean enabled) {
+        renderOnDemand = enabled;
+    }
+    
+    /**
+     * Algo visible cambió fuera de la entrada (callback, carga...): dibuja otro frame.
+     */
+    protected void markDirty() {
+        requestFrame();
+    }
+    
+    /**
+     * Mantiene el render durante seconds para una animación.
+     */
+    protected void requestFrames(float seconds) {
+        animationTimeLeft = Math.max(animationTimeLeft, seconds);
+        requestFrame();
+    }
+    
+    /**
+     * True mientras dura lo pedido con requestFrames(); siempre con render continuo.
+     */
+    protected boolean isAnimating() {
+        return !renderOnDemand || animationTimeLeft > 0f;
+    }
+    
+    /**
+     * Si el próximo frame cambiaría algo. Con render continuo siempre es true;
+     * el harness lo usa para saltarse los frames que el backend no dibujaría.
+     */
+    public boolean isFrameRequested() {
+        return !renderOnDemand || frameRequested;
+    }
+    
+    private void requestFrame() {
+        frameRequested = true;
+        if (renderOnDemand) Gdx.graphics.requestRendering();
     }
     
     @Override
     public void render(float delta) {
+        if (renderOnDemand) {
+            // Tras estar parada, el delta incluye todo el tiempo sin dibujar
+            if (!continuing) delta = 0f;
+            frameRequested = false;
+        }
+        
+        checkFonts();
+        
         Gdx.gl.glClearColor(
             Constants.COLOR_BACKGROUND[0],
             Constants.COLOR_BACKGROUND[1],
@@ -128,9 +249,19 @@ public abstract class BaseScreen implements Screen {
         
         draw();
         
+        if (renderOnDemand) scheduleNextFrame(delta);
+        
         updateTransition(delta);
     }
     
+    private void scheduleNextFrame(float delta) {
+        animationTimeLeft = Math.max(0f, animationTimeLeft - delta);
+        // frameRequested aquí viene de un markDirty() dentro de update() o draw()
+        continuing = frameRequested || animationTimeLeft > 0f || transitionIn || nextScreen != null
+            || assetManager.hasPendingUploads();
+        if (continuing) requestFrame();
+    }
+    
     private void updateTransition(float delta) {
         if (transitionIn) {
             transitionAlpha += delta / TRANSITION_DURATION;
@@ -143,6 +274,8 @@ public abstract class BaseScreen implements Screen {
             if (transitionAlpha >= 1f) {
                 game.setScreen(nextScreen);
                 dispose();
+                // Tras dispose no debe quedar ningún handle de esta pantalla
+                assetManager.reportLeakedHandles(getAssetOwner());
             }
         }
     }
@@ -154,29 +287,110 @@ public abstract class BaseScreen implements Screen {
     public void resize(int width, int height) {
         viewport.update(width, height, true);
         camera.position.set(Constants.WORLD_WIDTH / 2, Constants.WORLD_HEIGHT / 2, 0);
+        uiResources.resize(width, height);
+        checkFonts();
+        invalidateLayers();
+        requestFrame();
     }
     
     @Override
     public void show() {
         transitionIn = true;
         transitionAlpha = 0f;
+        continuing = false;
+        Gdx.graphics.setContinuousRendering(!renderOnDemand);
+        requestFrame();
     }
     
     @Override
     public void pause() {}
     
     @Override
-    public void resume() {}
+    public void resume() {
+        // La superficie puede haberse recreado sin contenido, FrameBuffers incluidos
+        invalidateLayers();
+        requestFrame();
+    }
     
     @Override
     public void hide() {
         // FIX: Limpiar el InputProcessor cuando la pantalla se oculta
         clearInputProcessor();
+        if (renderOnDemand) Gdx.graphics.setContinuousRendering(true);
     }
     
     @Override
     public void dispose() {
         // FIX: Asegurarse de limpiar el InputProcessor al dispose
         clearInputProcessor();
+        
+        for (ScreenLayer layer : layers) layer.dispose();
+        layers.clear();
+    }
+    
+    /**
+     * Pide un frame con cada evento de entrada. Los backends ya dibujan al recibir
+     * entrada; esto cubre el harness y los cambios hechos desde los listeners.
+     * mouseMoved no cuenta: ninguna pantalla tiene efectos hover.
+     */
+    private class RedrawOnInput implements InputProcessor {
+        private final InputProcessor target;
+        
+        RedrawOnInput(InputProcessor target) {
+            this.target = target;
+        }
+        
+        @Override
+        public boolean keyDown(int keycode) {
+            requestFrame();
+            return target.keyDown(keycode);
+        }
+        
+        @Override
+        public boolean keyUp(int keycode) {
+            requestFrame();
+            return target.keyUp(keycode);
+        }
+        
+        @Override
+        public boolean keyTyped(char character) {
+            requestFrame();
+            return target.keyTyped(character);
+        }
+        
+        @Override
+        public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+            requestFrame();
+            return target.touchDown(screenX, screenY, pointer, button);
+        }
+        
+        @Override
+        public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+            requestFrame();
+            return target.touchUp(screenX, screenY, pointer, button);
+        }
+        
+        @Override
+        public boolean touchCancelled(int screenX, int screenY, int pointer, int button) {
+            requestFrame();
+            return target.touchCancelled(screenX, screenY, pointer, button);
+        }
+        
+        @Override
+        public boolean touchDragged(int screenX, int screenY, int pointer) {
+            requestFrame();
+            return target.touchDragged(screenX, screenY, pointer);
+        }
+        
+        @Override
+        public boolean mouseMoved(int screenX, int screenY) {
+            return target.mouseMoved(screenX, screenY);
+        }
+        
+        @Override
+        public boolean scrolled(float amountX, float amountY) {
+            requestFrame();
+            return target.scrolled(amountX, amountY);
+        }
     }
-}
\ No newline at end of file
+}
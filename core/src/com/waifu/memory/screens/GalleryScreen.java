@@ -6,12 +6,19 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Align;
 import com.waifu.memory.IQWaifuMemory;
 import com.waifu.memory.data.HdLinksDatabase;
+import com.waifu.memory.managers.TextureHandle;
+import com.waifu.memory.managers.ThumbnailCache;
+import com.waifu.memory.managers.UiResourceManager.FontSize;
+import com.waifu.memory.utils.CachedText;
 import com.waifu.memory.utils.Constants;
+import com.waifu.memory.utils.TextFormat;
 
 public class GalleryScreen extends BaseScreen {
 
@@ -26,6 +33,16 @@ public class GalleryScreen extends BaseScreen {
     private Rectangle[] characterSlots;
     private float slotSize;
 
+    // Textos del grid: solo se maquetan cuando cambia su valor
+    private CachedText pcoinsText;
+    private CachedText progressText;
+    private CachedText[] slotNumberTexts;
+    private CachedText[] slotStatusTexts;
+
+    // Copia de los desbloqueos de PlayerData; consultarlos crea claves String por variante
+    private int[] slotUnlockLevels;
+    private float galleryProgress;
+
     private float scrollY;
     private float maxScrollY;
     private float lastTouchY;
@@ -43,46 +60,66 @@ public class GalleryScreen extends BaseScreen {
 
     private Rectangle downloadHdButton;
 
-    private Texture currentViewTexture;
+    private TextureHandle viewHandle;
     private int currentViewCharId;
     private int currentViewVariant;
 
     private final HdLinksDatabase hdLinks = new HdLinksDatabase();
 
+    private ThumbnailCache thumbnails;
+
+    // Todo el grid salvo PCOINS; se repinta con scroll, desbloqueos o miniaturas nuevas
+    private ScreenLayer gridLayer;
+
     private Vector3 touchPos;
 
     public GalleryScreen(IQWaifuMemory game) {
         super(game);
 
-        titleFont = new BitmapFont();
-        titleFont.getData().setScale(3f);
-        titleFont.setColor(Color.WHITE);
+        titleFont = uiResources.acquireFont(FontSize.TITLE);
 
-        textFont = new BitmapFont();
-        textFont.getData().setScale(2f);
-        textFont.setColor(Color.WHITE);
+        textFont = uiResources.acquireFont(FontSize.TEXT);
 
-        smallFont = new BitmapFont();
-        smallFont.getData().setScale(1.5f);
-        smallFont.setColor(Color.WHITE);
+        smallFont = uiResources.acquireFont(FontSize.SMALL);
 
-        layout = new GlyphLayout();
-        shapeRenderer = new ShapeRenderer();
+        layout = uiResources.obtainLayout();
+        shapeRenderer = uiResources.acquireShapeRenderer();
         touchPos = new Vector3();
+        thumbnails = new ThumbnailCache(assetManager);
 
         scrollY = 0;
         lastTouchY = 0;
         isDragging = false;
         viewingCharacter = false;
 
-        currentViewTexture = null;
+        viewHandle = null;
         currentViewCharId = -1;
         currentViewVariant = -1;
 
         createUI();
+        gridLayer = createLayer(new ScreenLayer.Painter() {
+            @Override
+            public void paint() {
+                drawGridStatic();
+            }
+        });
+        refreshUnlocks();
         setupInput();
     }
 
+    /**
+     * Relee de PlayerData el nivel de desbloqueo de cada personaje y el progreso.
+     * Solo cambian al desbloquear desde el visor.
+     */
+    private void refreshUnlocks() {
+        if (slotUnlockLevels == null) slotUnlockLevels = new int[Constants.TOTAL_CHARACTERS];
+        for (int i = 0; i < slotUnlockLevels.length; i++) {
+            slotUnlockLevels[i] = getPlayerData().getCharacterUnlockLevel(i);
+        }
+        galleryProgress = getPlayerData().getGalleryCompletionPercent();
+        gridLayer.invalidate();
+    }
+
     private void createUI() {
         float padding = 40f;
         float spacing = 15f;
@@ -93,6 +130,10 @@ public class GalleryScreen extends BaseScreen {
         int totalRows = (int) Math.ceil((float) Constants.TOTAL_CHARACTERS / COLUMNS);
 
         characterSlots = new Rectangle[Constants.TOTAL_CHARACTERS];
+        slotNumberTexts = new CachedText[Constants.TOTAL_CHARACTERS];
+        slotStatusTexts = new CachedText[Constants.TOTAL_CHARACTERS];
+        pcoinsText = new CachedText(textFont, Align.right);
+        progressText = new CachedText(smallFont, Align.center);
         float startY = Constants.WORLD_HEIGHT - 200;
 
         for (int i = 0; i < Constants.TOTAL_CHARACTERS; i++) {
@@ -103,6 +144,8 @@ public class GalleryScreen extends BaseScreen {
             float y = startY - row * (slotSize + spacing);
 
             characterSlots[i] = new Rectangle(x, y, slotSize, slotSize);
+            slotNumberTexts[i] = new CachedText(smallFont, Align.left);
+            slotStatusTexts[i] = new CachedText(smallFont, Align.center);
         }
 
         float contentHeight = totalRows * (slotSize + spacing);
@@ -154,7 +197,11 @@ public class GalleryScreen extends BaseScreen {
 
                 if (Math.abs(deltaY) > 5) {
                     isDragging = true;
-                    scrollY = Math.max(0, Math.min(maxScrollY, scrollY + deltaY));
+                    float newScrollY = Math.max(0, Math.min(maxScrollY, scrollY + deltaY));
+                    if (newScrollY != scrollY) {
+                        scrollY = newScrollY;
+                        gridLayer.invalidate();
+                    }
                 }
 
                 lastTouchY = touchPos.y;
@@ -229,9 +276,9 @@ public class GalleryScreen extends BaseScreen {
     private void closeViewer() {
         viewingCharacter = false;
 
+        releaseViewerTexture();
         assetManager.unloadCharacter(viewedCharacterId);
 
-        currentViewTexture = null;
         currentViewCharId = -1;
         currentViewVariant = -1;
         
@@ -242,20 +289,27 @@ public class GalleryScreen extends BaseScreen {
     private void loadViewerTexture() {
         if (currentViewCharId == viewedCharacterId && currentViewVariant == viewedVariant) return;
 
+        releaseViewerTexture();
+
         if (currentViewCharId != viewedCharacterId && currentViewCharId >= 0) {
             assetManager.unloadCharacter(currentViewCharId);
         }
 
         if (getPlayerData().isVariantUnlocked(viewedCharacterId, viewedVariant)) {
-            currentViewTexture = assetManager.getCharacterTexture(viewedCharacterId, viewedVariant);
-        } else {
-            currentViewTexture = null;
+            // Retenida mientras el visor la muestre: ni el presupuesto ni un unload la destruyen
+            viewHandle = assetManager.acquireCharacterTexture(viewedCharacterId, viewedVariant, getAssetOwner());
         }
 
         currentViewCharId = viewedCharacterId;
         currentViewVariant = viewedVariant;
     }
 
+    private void releaseViewerTexture() {
+        if (viewHandle == null) return;
+        viewHandle.release();
+        viewHandle = null;
+    }
+
     private void changeVariant(int direction) {
         int unlockLevel = getPlayerData().getCharacterUnlockLevel(viewedCharacterId);
         int maxVariant = Math.max(0, unlockLevel - 1);
@@ -270,6 +324,7 @@ public class GalleryScreen extends BaseScreen {
 
     private void tryUnlock() {
         if (getPlayerData().unlockNextVariant(viewedCharacterId)) {
+            refreshUnlocks();
             audioManager.playButtonClick();
             audioManager.playCoinCollect();
             saveProgress();
@@ -311,6 +366,43 @@ public class GalleryScreen extends BaseScreen {
 
     @Override
     protected void update(float delta) {
+        if (!viewingCharacter) updateThumbnailWindow();
+        if (thumbnails.update()) gridLayer.invalidate();
+    }
+
+    private boolean isSlotVisible(Rectangle slot) {
+        float adjustedY = slot.y + scrollY;
+        return adjustedY > -slot.height && adjustedY < Constants.WORLD_HEIGHT - 130;
+    }
+
+    /**
+     * Pide las miniaturas de lo visible primero y luego una pantalla de margen
+     * hacia abajo y hacia arriba.
+     */
+    private void updateThumbnailWindow() {
+        int first = -1;
+        int last = -1;
+        for (int i = 0; i < characterSlots.length; i++) {
+            if (isSlotVisible(characterSlots[i])) {
+                if (first < 0) first = i;
+                last = i;
+            } else if (first >= 0) {
+                break;
+            }
+        }
+        if (first < 0) return;
+
+        int lookahead = last - first + 1;
+        thumbnails.setWindow(first, last, lookahead);
+
+        for (int i = first; i <= last; i++) requestThumbnail(i);
+        for (int i = last + 1; i <= thumbnails.getWindowLast(); i++) requestThumbnail(i);
+        for (int i = first - 1; i >= thumbnails.getWindowFirst(); i--) requestThumbnail(i);
+    }
+
+    private void requestThumbnail(int characterId) {
+        int unlockLevel = slotUnlockLevels[characterId];
+        if (unlockLevel > 0) thumbnails.request(characterId, unlockLevel - 1);
     }
 
     @Override
@@ -320,6 +412,19 @@ public class GalleryScreen extends BaseScreen {
     }
 
     private void drawGrid() {
+        gridLayer.draw(batch);
+
+        batch.begin();
+        int pcoins = getPlayerData().pcoins;
+        if (pcoinsText.changed(pcoins)) {
+            TextFormat.appendInt(pcoinsText.text().append(Constants.CURRENCY_NAME).append(": "), pcoins);
+            pcoinsText.build();
+        }
+        pcoinsText.draw(batch, Constants.WORLD_WIDTH - 40, Constants.WORLD_HEIGHT - 50);
+        batch.end();
+    }
+
+    private void drawGridStatic() {
         shapeRenderer.setProjectionMatrix(camera.combined);
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
 
@@ -334,7 +439,7 @@ public class GalleryScreen extends BaseScreen {
             float adjustedY = slot.y + scrollY;
 
             if (adjustedY > -slot.height && adjustedY < Constants.WORLD_HEIGHT - 130) {
-                int unlockLevel = getPlayerData().getCharacterUnlockLevel(i);
+                int unlockLevel = slotUnlockLevels[i];
                 float[] color = Constants.getRarityColor(Math.max(0, unlockLevel - 1));
 
                 if (unlockLevel > 0) shapeRenderer.setColor(color[0] * 0.4f, color[1] * 0.4f, color[2] * 0.4f, 1f);
@@ -352,7 +457,7 @@ public class GalleryScreen extends BaseScreen {
             float adjustedY = slot.y + scrollY;
 
             if (adjustedY > -slot.height && adjustedY < Constants.WORLD_HEIGHT - 130) {
-                int unlockLevel = getPlayerData().getCharacterUnlockLevel(i);
+                int unlockLevel = slotUnlockLevels[i];
                 float[] color = Constants.getRarityColor(Math.max(0, unlockLevel - 1));
                 shapeRenderer.setColor(color[0], color[1], color[2], 0.8f);
                 shapeRenderer.rect(slot.x, adjustedY, slot.width, slot.height);
@@ -362,17 +467,28 @@ public class GalleryScreen extends BaseScreen {
 
         batch.begin();
 
+        for (int i = 0; i < characterSlots.length; i++) {
+            Rectangle slot = characterSlots[i];
+            if (!isSlotVisible(slot) || slotUnlockLevels[i] == 0) continue;
+
+            TextureRegion thumb = thumbnails.get(i);
+            if (thumb == null) continue;
+
+            float thumbH = slot.height - 10f;
+            float thumbW = thumbH * Constants.CARD_ASPECT_RATIO;
+            batch.draw(thumb, slot.x + (slot.width - thumbW) / 2f, slot.y + scrollY + 5f, thumbW, thumbH);
+        }
+
         String title = "GALERIA";
         layout.setText(titleFont, title);
         titleFont.draw(batch, title, Constants.WORLD_WIDTH / 2 - layout.width / 2, Constants.WORLD_HEIGHT - 45);
 
-        String pcoinsText = Constants.CURRENCY_NAME + ": " + getPlayerData().pcoins;
-        layout.setText(textFont, pcoinsText);
-        textFont.draw(batch, pcoinsText, Constants.WORLD_WIDTH - layout.width - 40, Constants.WORLD_HEIGHT - 50);
-
-        String progress = String.format("%.1f%%", getPlayerData().getGalleryCompletionPercent());
-        layout.setText(smallFont, progress);
-        smallFont.draw(batch, progress, Constants.WORLD_WIDTH / 2 - layout.width / 2, Constants.WORLD_HEIGHT - 105);
+        float progress = galleryProgress;
+        if (progressText.changed(Math.round(progress * 10f))) {
+            TextFormat.appendTenths(progressText.text(), progress).append('%');
+            progressText.build();
+        }
+        progressText.draw(batch, Constants.WORLD_WIDTH / 2, Constants.WORLD_HEIGHT - 105);
 
         layout.setText(textFont, "<");
         textFont.draw(batch, "<",
@@ -384,32 +500,30 @@ public class GalleryScreen extends BaseScreen {
             float adjustedY = slot.y + scrollY;
 
             if (adjustedY > -slot.height && adjustedY < Constants.WORLD_HEIGHT - 130) {
-                int unlockLevel = getPlayerData().getCharacterUnlockLevel(i);
-
-                String num = String.format("#%02d", i + 1);
-                layout.setText(smallFont, num);
-                smallFont.setColor(Color.WHITE);
-                smallFont.draw(batch, num, slot.x + 5, adjustedY + slot.height - 5);
-
-                if (unlockLevel == 0) {
-                    smallFont.setColor(Color.GRAY);
-                    int cost = Constants.getGalleryCost(0);
-                    String costStr = cost + "P";
-                    layout.setText(smallFont, costStr);
-                    smallFont.draw(batch, costStr, slot.x + (slot.width - layout.width) / 2, adjustedY + slot.height / 2);
-                } else {
-                    String stars = Constants.getVariantDisplayName(unlockLevel - 1);
-                    if (unlockLevel >= Constants.VARIANTS_PER_CHARACTER) {
-                        smallFont.setColor(Color.GOLD);
-                        stars = "MAX";
+                int unlockLevel = slotUnlockLevels[i];
+
+                CachedText number = slotNumberTexts[i];
+                if (number.changed(i + 1)) {
+                    TextFormat.appendInt(number.text().append('#'), i + 1, 2);
+                    number.build();
+                }
+                number.draw(batch, slot.x + 5, adjustedY + slot.height - 5);
+
+                CachedText status = slotStatusTexts[i];
+                if (status.changed(unlockLevel)) {
+                    if (unlockLevel == 0) {
+                        status.setColor(Color.GRAY);
+                        TextFormat.appendInt(status.text(), Constants.getGalleryCost(0)).append('P');
+                    } else if (unlockLevel >= Constants.VARIANTS_PER_CHARACTER) {
+                        status.setColor(Color.GOLD);
+                        status.text().append("MAX");
                     } else {
-                        smallFont.setColor(Color.WHITE);
+                        status.setColor(Color.WHITE);
+                        status.text().append(Constants.getVariantDisplayName(unlockLevel - 1));
                     }
-                    layout.setText(smallFont, stars);
-                    smallFont.draw(batch, stars, slot.x + (slot.width - layout.width) / 2, adjustedY + 25);
+                    status.build();
                 }
-
-                smallFont.setColor(Color.WHITE);
+                status.draw(batch, slot.x + slot.width / 2, adjustedY + (unlockLevel == 0 ? slot.height / 2 : 25));
             }
         }
 
@@ -474,8 +588,8 @@ public class GalleryScreen extends BaseScreen {
         float imgX = panelX + imgMargin;
         float imgY = panelY + imgMargin;
 
-        if (isUnlocked && currentViewTexture != null) {
-            batch.draw(currentViewTexture, imgX, imgY, imgW, imgH);
+        if (isUnlocked && viewHandle != null) {
+            batch.draw(viewHandle.get(), imgX, imgY, imgW, imgH);
 
             Texture frame = assetManager.getFrameTexture(viewedVariant);
             if (frame != null) batch.draw(frame, imgX, imgY, imgW, imgH);
@@ -566,11 +680,31 @@ public class GalleryScreen extends BaseScreen {
         hideBanner();
     }
 
+    @Override
+    protected void reloadFonts() {
+        uiResources.releaseFont(titleFont);
+        uiResources.releaseFont(textFont);
+        uiResources.releaseFont(smallFont);
+
+        titleFont = uiResources.acquireFont(FontSize.TITLE);
+        textFont = uiResources.acquireFont(FontSize.TEXT);
+        smallFont = uiResources.acquireFont(FontSize.SMALL);
+
+        pcoinsText.setFont(textFont);
+        progressText.setFont(smallFont);
+        for (CachedText text : slotNumberTexts) text.setFont(smallFont);
+        for (CachedText text : slotStatusTexts) text.setFont(smallFont);
+    }
+
     @Override
     public void dispose() {
-        if (titleFont != null) titleFont.dispose();
-        if (textFont != null) textFont.dispose();
-        if (smallFont != null) smallFont.dispose();
-        if (shapeRenderer != null) shapeRenderer.dispose();
+        releaseViewerTexture();
+        uiResources.releaseFont(titleFont);
+        uiResources.releaseFont(textFont);
+        uiResources.releaseFont(smallFont);
+        uiResources.releaseShapeRenderer();
+        uiResources.freeLayout(layout);
+        if (thumbnails != null) thumbnails.dispose();
+        super.dispose();
     }
 }
\ No newline at end of file
@@ -8,52 +8,42 @@ import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.waifu.memory.IQWaifuMemory;
 import com.waifu.memory.data.LevelConfig;
 import com.waifu.memory.data.LevelDatabase;
 import com.waifu.memory.entities.Card;
 import com.waifu.memory.entities.GameGrid;
+import com.waifu.memory.managers.UiResourceManager.FontSize;
+import com.waifu.memory.replay.Replay;
+import com.waifu.memory.replay.ReplayPlayer;
+import com.waifu.memory.replay.ReplayRecorder;
 import com.waifu.memory.systems.EconomyManager;
+import com.waifu.memory.systems.GameSession;
+import com.waifu.memory.utils.CachedText;
 import com.waifu.memory.utils.Constants;
+import com.waifu.memory.utils.TextFormat;
 
-public class GameScreen extends BaseScreen {
+/**
+ * Dibuja una GameSession y le pasa los toques. Las reglas viven en la sesión;
+ * aquí quedan el sonido, la economía, los popups y los anuncios.
+ */
+public class GameScreen extends BaseScreen implements GameSession.Listener {
 
     private final int levelNumber;
 
     private final LevelDatabase levelDatabase;
     private final LevelConfig levelConfig;
 
-    private enum GameState {
-        PLAYING,
-        CHECKING_MATCH,
-        VICTORY,
-        DEFEAT,
-        PAUSED
-    }
-
-    private GameState gameState;
-
-    private GameGrid gameGrid;
-
-    private Card firstCard;
-    private Card secondCard;
-    private float checkTimer;
+    private final GameSession session;
+    private final GameGrid gameGrid;
 
-    private float gameTime;
-    private float maxTime;
-    private boolean timerWarning;
+    private final ReplayPlayer replayPlayer; // null si es una partida normal
+    private final ReplayRecorder recorder;   // null durante una repetición
 
-    private int pairsFound;
     private int pcoinsEarned;
 
-    private int totalPairs;
-
-    private int cardsFlippedSinceShuffle;
-    private boolean shuffleEnabled;
-    private int shuffleInterval;
-
-    private boolean hintEnabled;
-    private int hintsLeft;
     private Rectangle hintButton;
 
     private EconomyManager.RewardBreakdown victoryReward;
@@ -64,6 +54,14 @@ public class GameScreen extends BaseScreen {
     private GlyphLayout layout;
     private ShapeRenderer shapeRenderer;
 
+    // Textos del HUD: solo se maquetan cuando cambia su valor
+    private CachedText pauseText;
+    private CachedText levelText;
+    private CachedText timeText;
+    private CachedText pairsText;
+    private CachedText pcoinsText;
+    private CachedText hintText;
+
     private Rectangle pauseButton;
 
     private boolean showingPopup;
@@ -73,32 +71,57 @@ public class GameScreen extends BaseScreen {
     private Vector3 touchPos;
 
     public GameScreen(IQWaifuMemory game, int levelNumber) {
+        this(game, levelNumber, null);
+    }
+
+    /**
+     * Con replay distinto de null reproduce esa partida en lugar de leer toques.
+     */
+    public GameScreen(IQWaifuMemory game, int levelNumber, Replay replay) {
         super(game);
 
         this.levelNumber = levelNumber;
-        this.gameState = GameState.PLAYING;
 
         this.levelDatabase = new LevelDatabase();
         this.levelConfig = levelDatabase.get(levelNumber);
 
-        setupLevelFromConfig();
+        // Semilla de la partida; una repetición usa la grabada
+        long seed = replay != null ? replay.getSeed() : TimeUtils.nanoTime() ^ TimeUtils.millis();
+        float maxTime = replay != null ? replay.getMaxTime() : calculateMaxTime();
 
-        hudFont = new BitmapFont();
-        hudFont.getData().setScale(2.5f);
-        hudFont.setColor(Color.WHITE);
+        this.session = new GameSession(levelConfig, maxTime, getPlayerData().getCurrentPairValue(), seed);
+        this.session.setListener(this);
+        this.gameGrid = session.getGrid();
+        this.gameGrid.attachAssets(assetManager, getAssetOwner());
 
-        bigFont = new BitmapFont();
-        bigFont.getData().setScale(4f);
-        bigFont.setColor(Color.WHITE);
+        if (replay != null) {
+            this.replayPlayer = new ReplayPlayer(replay, session);
+            this.recorder = null;
+        } else {
+            this.replayPlayer = null;
+            this.recorder = new ReplayRecorder(levelNumber, seed, maxTime);
+            this.session.setRecorder(recorder);
+        }
 
-        layout = new GlyphLayout();
-        shapeRenderer = new ShapeRenderer();
+        pcoinsEarned = 0;
+        showingPopup = false;
+
+        hudFont = uiResources.acquireFont(FontSize.BUTTON);
+
+        bigFont = uiResources.acquireFont(FontSize.BIG);
+
+        pauseText = new CachedText(hudFont, Align.center);
+        levelText = new CachedText(hudFont, Align.center);
+        timeText = new CachedText(hudFont, Align.right);
+        pairsText = new CachedText(hudFont, Align.left);
+        pcoinsText = new CachedText(hudFont, Align.left);
+        hintText = new CachedText(hudFont, Align.center);
+
+        layout = uiResources.obtainLayout();
+        shapeRenderer = uiResources.acquireShapeRenderer();
         touchPos = new Vector3();
 
         pauseButton = new Rectangle(40, Constants.WORLD_HEIGHT - 100, 80, 80);
-
-        hintEnabled = Constants.isHintsEnabledForGrid(levelConfig.gridSize);
-        hintsLeft = hintEnabled ? Constants.HINTS_PER_MATCH : 0;
         hintButton = new Rectangle(Constants.WORLD_WIDTH - 220f, Constants.WORLD_HEIGHT - 170f, 180f, 45f);
 
         rewardedDoubleClaimed = false;
@@ -107,54 +130,15 @@ public class GameScreen extends BaseScreen {
         setupInput();
     }
 
-    public com.waifu.memory.managers.AssetManager getAssetManager() {
-        return assetManager;
-    }
-
-    private void setupLevelFromConfig() {
-        shuffleEnabled = levelConfig.shuffle;
-        shuffleInterval = levelConfig.shuffleInterval > 0 ? levelConfig.shuffleInterval : Constants.SHUFFLE_INTERVAL;
+    private float calculateMaxTime() {
+        float maxTime = getPlayerData().getCurrentBaseTime() + levelConfig.timeBonusSeconds;
 
-        int baseTime = getPlayerData().getCurrentBaseTime();
-        maxTime = baseTime + levelConfig.timeBonusSeconds;
-        
         // FIX: Validar que maxTime nunca sea 0
         if (maxTime <= 0) {
             Gdx.app.error(Constants.TAG, "maxTime was 0! Setting to minimum 30s");
             maxTime = 30f;
         }
-        
-        gameTime = maxTime;
-
-        int[] pool = buildPool(levelConfig.poolCount);
-
-        gameGrid = new GameGrid(levelConfig.gridSize, this, pool);
-
-        totalPairs = levelConfig.totalPairs();
-
-        firstCard = null;
-        secondCard = null;
-        checkTimer = 0f;
-
-        pairsFound = 0;
-        pcoinsEarned = 0;
-
-        cardsFlippedSinceShuffle = 0;
-        showingPopup = false;
-        timerWarning = false;
-    }
-
-    private int[] buildPool(int poolCount) {
-        int pairsNeeded = levelConfig.totalPairs();
-        int c = poolCount;
-
-        if (c < pairsNeeded) c = pairsNeeded;
-        if (c < 1) c = 1;
-        if (c > Constants.TOTAL_CHARACTERS) c = Constants.TOTAL_CHARACTERS;
-
-        int[] pool = new int[c];
-        for (int i = 0; i < c; i++) pool[i] = i;
-        return pool;
+        return maxTime;
     }
 
     private void setupInput() {
@@ -176,7 +160,10 @@ public class GameScreen extends BaseScreen {
                     return true;
                 }
 
-                if (hintEnabled && hintsLeft > 0 && gameState == GameState.PLAYING) {
+                // Durante una repetición los toques vienen de la grabación
+                if (replayPlayer != null) return true;
+
+                if (session.getHintsLeft() > 0 && session.getState() == GameSession.State.PLAYING) {
                     if (hintButton.contains(touchPos.x, touchPos.y)) {
                         audioManager.playButtonClick();
                         showRewardedAdForHint();
@@ -184,43 +171,14 @@ public class GameScreen extends BaseScreen {
                     }
                 }
 
-                // FIX: Solo permitir clicks en estado PLAYING
-                if (gameState == GameState.PLAYING) {
-                    handleCardClick();
-                }
+                // FIX: Solo permitir clicks en estado PLAYING (lo comprueba la sesión)
+                session.tapCard(gameGrid.getCardAt(touchPos.x, touchPos.y));
 
                 return true;
             }
         });
     }
 
-    private void handleCardClick() {
-        Card clickedCard = gameGrid.getCardAt(touchPos.x, touchPos.y);
-
-        if (clickedCard == null) return;
-        if (clickedCard.isMatched()) return;
-        if (clickedCard.isRevealed()) return;
-        if (clickedCard.isAnimating()) return;
-        if (clickedCard == firstCard) return;
-
-        // FIX: No permitir si ya hay 2 cartas seleccionadas
-        if (firstCard != null && secondCard != null) {
-            return;
-        }
-
-        clickedCard.flip();
-        audioManager.playCardFlip();
-        cardsFlippedSinceShuffle++;
-
-        if (firstCard == null) {
-            firstCard = clickedCard;
-        } else {
-            secondCard = clickedCard;
-            gameState = GameState.CHECKING_MATCH;
-            checkTimer = Constants.CARD_SHOW_TIME;
-        }
-    }
-
     private void handlePopupInput() {
         if (popupButtons == null) return;
 
@@ -234,13 +192,15 @@ public class GameScreen extends BaseScreen {
     }
 
     private void handlePopupButtonClick(int buttonIndex) {
-        if (gameState == GameState.VICTORY) {
+        GameSession.State state = session.getState();
+        if (state == GameSession.State.VICTORY) {
             switch (buttonIndex) {
                 case 0:
                     showRewardedAdForDouble();
                     break;
                 case 1:
                     maybeShowInterstitial();
+                    assetManager.cancelLevelPrefetch();
                     goToScreen(new UpgradesScreen(game));
                     break;
                 case 2:
@@ -250,10 +210,11 @@ public class GameScreen extends BaseScreen {
                     break;
                 case 3:
                     maybeShowInterstitial();
+                    assetManager.cancelLevelPrefetch();
                     goToScreen(new HomeScreen(game));
                     break;
             }
-        } else if (gameState == GameState.DEFEAT) {
+        } else if (state == GameSession.State.DEFEAT) {
             switch (buttonIndex) {
                 case 0:
                     showRewardedAdForTime();
@@ -267,7 +228,7 @@ public class GameScreen extends BaseScreen {
                     goToScreen(new HomeScreen(game));
                     break;
             }
-        } else if (gameState == GameState.PAUSED) {
+        } else if (state == GameSession.State.PAUSED) {
             switch (buttonIndex) {
                 case 0:
                     togglePause();
@@ -294,18 +255,16 @@ public class GameScreen extends BaseScreen {
     }
 
     private void togglePause() {
-        if (gameState == GameState.PLAYING) {
-            gameState = GameState.PAUSED;
+        if (session.pause()) {
             showPausePopup();
-        } else if (gameState == GameState.PAUSED) {
-            gameState = GameState.PLAYING;
+        } else if (session.resume()) {
             showingPopup = false;
         }
     }
 
     private void showRewardedAdForDouble() {
         if (rewardedDoubleClaimed) return;
-        if (gameState != GameState.VICTORY) return;
+        if (session.getState() != GameSession.State.VICTORY) return;
         if (victoryReward == null) return;
 
         if (!game.hasAdHandler() || !game.getAdHandler().isRewardedAdLoaded()) return;
@@ -335,10 +294,7 @@ public class GameScreen extends BaseScreen {
         game.getAdHandler().showRewardedAd(new IQWaifuMemory.RewardCallback() {
             @Override
             public void onRewardEarned() {
-                gameTime = Constants.AD_EXTRA_TIME;
-                timerWarning = false;
-                gameState = GameState.PLAYING;
-                showingPopup = false;
+                session.applyExtraTime();
 
                 getPlayerData().recordRewardedWatched();
                 saveProgress();
@@ -351,17 +307,13 @@ public class GameScreen extends BaseScreen {
     }
 
     private void showRewardedAdForHint() {
-        if (!hintEnabled || hintsLeft <= 0) return;
+        if (session.getHintsLeft() <= 0) return;
         if (!game.hasAdHandler() || !game.getAdHandler().isRewardedAdLoaded()) return;
 
         game.getAdHandler().showRewardedAd(new IQWaifuMemory.RewardCallback() {
             @Override
             public void onRewardEarned() {
-                boolean ok = gameGrid.triggerHintShake();
-                if (ok) {
-                    hintsLeft--;
-                    getPlayerData().recordHintUsed();
-                }
+                if (session.applyHint()) getPlayerData().recordHintUsed();
 
                 getPlayerData().recordRewardedWatched();
                 saveProgress();
@@ -375,83 +327,53 @@ public class GameScreen extends BaseScreen {
 
     @Override
     protected void update(float delta) {
-        if (gameState == GameState.PLAYING) {
-            gameTime -= delta;
-
-            if (gameTime <= 10f && !timerWarning) {
-                timerWarning = true;
-                audioManager.playTimerWarning();
-            }
-
-            if (gameTime <= 0f) {
-                gameTime = 0f;
-                onDefeat();
-                return;
-            }
-
-            gameGrid.update(delta);
-
-        } else if (gameState == GameState.CHECKING_MATCH) {
-            checkTimer -= delta;
-            if (checkTimer <= 0f) checkMatch();
-        }
+        if (replayPlayer != null) replayPlayer.update(delta);
+        else session.update(delta);
     }
 
-    private void checkMatch() {
-        // FIX: Validación robusta
-        if (firstCard == null || secondCard == null) {
-            Gdx.app.error(Constants.TAG, "checkMatch called with null cards!");
-            firstCard = null;
-            secondCard = null;
-            gameState = GameState.PLAYING;
-            return;
-        }
-
-        if (firstCard.getCharacterId() == secondCard.getCharacterId()) {
-            // MATCH EXITOSO
-            firstCard.setMatched(true);
-            secondCard.setMatched(true);
-            pairsFound++;
+    @Override
+    public void onCardFlipped(Card card) {
+        audioManager.playCardFlip();
+    }
 
-            pcoinsEarned = pairsFound * getPlayerData().getCurrentPairValue();
+    @Override
+    public void onMatch(Card first, Card second) {
+        pcoinsEarned = session.getPairsReward();
 
-            audioManager.playMatch();
-            audioManager.playCoinCollect();
+        audioManager.playMatch();
+        audioManager.playCoinCollect();
+    }
 
-            // FIX: Resetear contador, NO shuffle después de acertar
-            cardsFlippedSinceShuffle = 0;
+    @Override
+    public void onNoMatch(Card first, Card second) {
+        audioManager.playNoMatch();
+    }
 
-            if (gameGrid.isAllMatched()) {
-                onVictory();
-                return;
-            }
-        } else {
-            // NO MATCH
-            if (firstCard != null) firstCard.flipBack();
-            if (secondCard != null) secondCard.flipBack();
-            audioManager.playNoMatch();
-
-            // FIX: Solo shuffle después de NO MATCH
-            if (shuffleEnabled && cardsFlippedSinceShuffle >= shuffleInterval) {
-                gameGrid.shuffleUnmatched();
-                cardsFlippedSinceShuffle = 0;
-            }
-        }
+    @Override
+    public void onTimerWarning() {
+        audioManager.playTimerWarning();
+    }
 
-        firstCard = null;
-        secondCard = null;
-        gameState = GameState.PLAYING;
+    @Override
+    public void onTimeExtended() {
+        showingPopup = false;
     }
 
-    private void onVictory() {
-        gameState = GameState.VICTORY;
+    @Override
+    public void onVictory() {
         audioManager.playVictory();
 
+        if (replayPlayer != null) {
+            showVictoryPopup();
+            return;
+        }
+        recorder.save();
+
         victoryReward = EconomyManager.calculateVictoryReward(
             getPlayerData(),
             levelConfig,
-            pairsFound,
-            gameTime
+            session.getPairsFound(),
+            session.getTimeLeft()
         );
 
         pcoinsEarned = victoryReward.total;
@@ -461,19 +383,30 @@ public class GameScreen extends BaseScreen {
             getPlayerData().maxLevelCompleted = levelNumber;
         }
 
-        getPlayerData().recordGamePlayed(true, pairsFound);
+        getPlayerData().recordGamePlayed(true, session.getPairsFound());
         saveProgress();
 
         showVictoryPopup();
+
+        // Mientras el popup está visible se prepara el atlas del siguiente nivel
+        if (levelNumber < Constants.TOTAL_LEVELS) {
+            assetManager.prefetchLevel(levelDatabase.get(levelNumber + 1));
+        }
     }
 
-    private void onDefeat() {
-        gameState = GameState.DEFEAT;
+    @Override
+    public void onDefeat() {
         audioManager.playDefeat();
 
         pcoinsEarned = 0;
 
-        getPlayerData().recordGamePlayed(false, pairsFound);
+        if (replayPlayer != null) {
+            showDefeatPopup();
+            return;
+        }
+        recorder.save();
+
+        getPlayerData().recordGamePlayed(false, session.getPairsFound());
         saveProgress();
 
         showDefeatPopup();
@@ -539,21 +472,22 @@ public class GameScreen extends BaseScreen {
         float timeBarY = Constants.WORLD_HEIGHT - 80;
         
         // FIX: Proteger contra división por cero
+        float maxTime = session.getMaxTime();
         float timePercent = 0f;
         if (maxTime > 0) {
-            timePercent = Math.max(0f, Math.min(1f, gameTime / maxTime));
+            timePercent = Math.max(0f, Math.min(1f, session.getTimeLeft() / maxTime));
         }
 
         shapeRenderer.setColor(0.2f, 0.2f, 0.3f, 1f);
         shapeRenderer.rect(timeBarX, timeBarY, timeBarWidth, timeBarHeight);
 
-        if (timerWarning) shapeRenderer.setColor(0.9f, 0.2f, 0.2f, 1f);
+        if (session.isTimerWarning()) shapeRenderer.setColor(0.9f, 0.2f, 0.2f, 1f);
         else shapeRenderer.setColor(0.2f, 0.8f, 0.3f, 1f);
 
         shapeRenderer.rect(timeBarX, timeBarY, timeBarWidth * timePercent, timeBarHeight);
 
-        if (hintEnabled) {
-            shapeRenderer.setColor(0.2f, 0.55f, 0.9f, (hintsLeft > 0 && gameState == GameState.PLAYING) ? 1f : 0.35f);
+        if (session.isHintEnabled()) {
+            shapeRenderer.setColor(0.2f, 0.55f, 0.9f, (session.getHintsLeft() > 0 && session.getState() == GameSession.State.PLAYING) ? 1f : 0.35f);
             shapeRenderer.rect(hintButton.x, hintButton.y, hintButton.width, hintButton.height);
         }
 
@@ -561,40 +495,54 @@ public class GameScreen extends BaseScreen {
 
         batch.begin();
 
-        layout.setText(hudFont, "II");
-        hudFont.draw(batch, "II",
-            pauseButton.x + (pauseButton.width - layout.width) / 2,
-            pauseButton.y + (pauseButton.height + layout.height) / 2);
+        if (pauseText.changed(0)) {
+            pauseText.text().append("II");
+            pauseText.build();
+        }
+        pauseText.draw(batch,
+            pauseButton.x + pauseButton.width / 2,
+            pauseButton.y + (pauseButton.height + pauseText.getHeight()) / 2);
+
+        if (levelText.changed(levelNumber)) {
+            TextFormat.appendInt(levelText.text().append("NIVEL "), levelNumber);
+            levelText.build();
+        }
+        levelText.draw(batch, Constants.WORLD_WIDTH / 2, Constants.WORLD_HEIGHT - 40);
 
-        String levelText = "NIVEL " + levelNumber;
-        layout.setText(hudFont, levelText);
-        hudFont.draw(batch, levelText,
-            Constants.WORLD_WIDTH / 2 - layout.width / 2,
-            Constants.WORLD_HEIGHT - 40);
-
-        int seconds = Math.max(0, (int) gameTime);
-        String timeText = String.format("%02d:%02d", seconds / 60, seconds % 60);
-        if (timerWarning) hudFont.setColor(Color.RED);
-        layout.setText(hudFont, timeText);
-        hudFont.draw(batch, timeText,
-            Constants.WORLD_WIDTH - layout.width - 50,
-            Constants.WORLD_HEIGHT - 40);
-        hudFont.setColor(Color.WHITE);
-
-        String pairsText = "Pares: " + pairsFound + "/" + totalPairs;
-        layout.setText(hudFont, pairsText);
-        hudFont.draw(batch, pairsText, 150, Constants.WORLD_HEIGHT - 40);
-
-        String pcoinsText = "+" + pcoinsEarned + " " + Constants.CURRENCY_NAME;
-        layout.setText(hudFont, pcoinsText);
-        hudFont.draw(batch, pcoinsText, 150, Constants.WORLD_HEIGHT - 85);
-
-        if (hintEnabled) {
-            String hintText = "PISTA x" + hintsLeft;
-            layout.setText(hudFont, hintText);
-            hudFont.draw(batch, hintText,
-                hintButton.x + (hintButton.width - layout.width) / 2f,
-                hintButton.y + (hintButton.height + layout.height) / 2f);
+        int seconds = Math.max(0, (int) session.getTimeLeft());
+        if (timeText.changed(seconds)) {
+            TextFormat.appendTime(timeText.text(), seconds);
+            timeText.build();
+        }
+        timeText.setColor(session.isTimerWarning() ? Color.RED : Color.WHITE);
+        timeText.draw(batch, Constants.WORLD_WIDTH - 50, Constants.WORLD_HEIGHT - 40);
+
+        int pairsFound = session.getPairsFound();
+        int totalPairs = session.getTotalPairs();
+        if (pairsText.changed(pairsFound, totalPairs)) {
+            StringBuilder text = pairsText.text().append("Pares: ");
+            TextFormat.appendInt(text, pairsFound).append('/');
+            TextFormat.appendInt(text, totalPairs);
+            pairsText.build();
+        }
+        pairsText.draw(batch, 150, Constants.WORLD_HEIGHT - 40);
+
+        if (pcoinsText.changed(pcoinsEarned)) {
+            StringBuilder text = pcoinsText.text().append('+');
+            TextFormat.appendInt(text, pcoinsEarned).append(' ').append(Constants.CURRENCY_NAME);
+            pcoinsText.build();
+        }
+        pcoinsText.draw(batch, 150, Constants.WORLD_HEIGHT - 85);
+
+        if (session.isHintEnabled()) {
+            int hintsLeft = session.getHintsLeft();
+            if (hintText.changed(hintsLeft)) {
+                TextFormat.appendInt(hintText.text().append("PISTA x"), hintsLeft);
+                hintText.build();
+            }
+            hintText.draw(batch,
+                hintButton.x + hintButton.width / 2f,
+                hintButton.y + (hintButton.height + hintText.getHeight()) / 2f);
         }
 
         batch.end();
@@ -626,10 +574,10 @@ public class GameScreen extends BaseScreen {
         batch.begin();
 
         String title;
-        if (gameState == GameState.VICTORY) {
+        if (session.getState() == GameSession.State.VICTORY) {
             title = "¡VICTORIA!";
             bigFont.setColor(Color.GOLD);
-        } else if (gameState == GameState.DEFEAT) {
+        } else if (session.getState() == GameSession.State.DEFEAT) {
             title = "TIEMPO AGOTADO";
             bigFont.setColor(Color.RED);
         } else {
@@ -643,14 +591,14 @@ public class GameScreen extends BaseScreen {
             Constants.WORLD_HEIGHT / 2 + 180);
         bigFont.setColor(Color.WHITE);
 
-        if (gameState == GameState.VICTORY) {
+        if (session.getState() == GameSession.State.VICTORY) {
             String info = "+" + pcoinsEarned + " " + Constants.CURRENCY_NAME;
             layout.setText(hudFont, info);
             hudFont.draw(batch, info,
                 Constants.WORLD_WIDTH / 2 - layout.width / 2,
                 Constants.WORLD_HEIGHT / 2 + 100);
-        } else if (gameState == GameState.DEFEAT) {
-            String info = "Pares: " + pairsFound + "/" + totalPairs;
+        } else if (session.getState() == GameSession.State.DEFEAT) {
+            String info = "Pares: " + session.getPairsFound() + "/" + session.getTotalPairs();
             layout.setText(hudFont, info);
             hudFont.draw(batch, info,
                 Constants.WORLD_WIDTH / 2 - layout.width / 2,
@@ -668,11 +616,28 @@ public class GameScreen extends BaseScreen {
         batch.end();
     }
 
+    @Override
+    protected void reloadFonts() {
+        uiResources.releaseFont(hudFont);
+        uiResources.releaseFont(bigFont);
+
+        hudFont = uiResources.acquireFont(FontSize.BUTTON);
+        bigFont = uiResources.acquireFont(FontSize.BIG);
+
+        pauseText.setFont(hudFont);
+        levelText.setFont(hudFont);
+        timeText.setFont(hudFont);
+        pairsText.setFont(hudFont);
+        pcoinsText.setFont(hudFont);
+        hintText.setFont(hudFont);
+    }
+
     @Override
     public void dispose() {
-        if (hudFont != null) hudFont.dispose();
-        if (bigFont != null) bigFont.dispose();
-        if (shapeRenderer != null) shapeRenderer.dispose();
+        uiResources.releaseFont(hudFont);
+        uiResources.releaseFont(bigFont);
+        uiResources.releaseShapeRenderer();
+        uiResources.freeLayout(layout);
         if (gameGrid != null) gameGrid.dispose();
     }
 }
\ No newline at end of file
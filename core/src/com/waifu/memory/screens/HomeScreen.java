@@ -2,13 +2,13 @@ package com.waifu.memory.screens;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputAdapter;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
 import com.waifu.memory.IQWaifuMemory;
+import com.waifu.memory.managers.UiResourceManager.FontSize;
 import com.waifu.memory.utils.Constants;
 
 /**
@@ -37,21 +37,15 @@ public class HomeScreen extends BaseScreen {
     public HomeScreen(IQWaifuMemory game) {
         super(game);
         
-        titleFont = new BitmapFont();
-        titleFont.getData().setScale(4f);
-        titleFont.setColor(Color.WHITE);
+        titleFont = uiResources.acquireFont(FontSize.BIG);
         
-        buttonFont = new BitmapFont();
-        buttonFont.getData().setScale(2.5f);
-        buttonFont.setColor(Color.WHITE);
+        buttonFont = uiResources.acquireFont(FontSize.BUTTON);
         
-        infoFont = new BitmapFont();
-        infoFont.getData().setScale(2f);
-        infoFont.setColor(Color.WHITE);
+        infoFont = uiResources.acquireFont(FontSize.TEXT);
         
-        layout = new GlyphLayout();
+        layout = uiResources.obtainLayout();
         
-        shapeRenderer = new ShapeRenderer();
+        shapeRenderer = uiResources.acquireShapeRenderer();
         touchPos = new Vector3();
         
         createButtons();
@@ -59,6 +53,7 @@ public class HomeScreen extends BaseScreen {
         playButtonPulse = 0f;
         pulseDirection = 1f;
         
+        setRenderOnDemand(true);
         setupInput();
     }
     
@@ -103,6 +98,7 @@ public class HomeScreen extends BaseScreen {
             public boolean touchDown(int screenX, int screenY, int pointer, int button) {
                 touchPos.set(screenX, screenY, 0);
                 viewport.unproject(touchPos);
+                requestFrames(Constants.HOME_PULSE_SECONDS);
                 
                 if (playButton.contains(touchPos.x, touchPos.y)) {
                     onPlayClicked();
@@ -155,6 +151,16 @@ public class HomeScreen extends BaseScreen {
     
     @Override
     protected void update(float delta) {
+        if (!isAnimating()) {
+            // Sin animación pedida el botón vuelve a reposo y la pantalla deja de dibujar
+            if (playButtonPulse > 0f) {
+                playButtonPulse = Math.max(0f, playButtonPulse - delta * 2f);
+                pulseDirection = 1f;
+                markDirty();
+            }
+            return;
+        }
+        
         playButtonPulse += delta * pulseDirection * 2f;
         if (playButtonPulse >= 1f) {
             playButtonPulse = 1f;
@@ -230,6 +236,7 @@ public class HomeScreen extends BaseScreen {
     @Override
     public void show() {
         super.show();
+        requestFrames(Constants.HOME_PULSE_SECONDS);
         // Mostrar banner al entrar a la pantalla
         showBanner();
     }
@@ -241,11 +248,23 @@ public class HomeScreen extends BaseScreen {
         hideBanner();
     }
     
+    @Override
+    protected void reloadFonts() {
+        uiResources.releaseFont(titleFont);
+        uiResources.releaseFont(buttonFont);
+        uiResources.releaseFont(infoFont);
+        
+        titleFont = uiResources.acquireFont(FontSize.BIG);
+        buttonFont = uiResources.acquireFont(FontSize.BUTTON);
+        infoFont = uiResources.acquireFont(FontSize.TEXT);
+    }
+    
     @Override
     public void dispose() {
-        titleFont.dispose();
-        buttonFont.dispose();
-        infoFont.dispose();
-        shapeRenderer.dispose();
+        uiResources.releaseFont(titleFont);
+        uiResources.releaseFont(buttonFont);
+        uiResources.releaseFont(infoFont);
+        uiResources.releaseShapeRenderer();
+        uiResources.freeLayout(layout);
     }
 }
\ No newline at end of file
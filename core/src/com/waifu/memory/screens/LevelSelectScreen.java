@@ -2,14 +2,17 @@ package com.waifu.memory.screens;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputAdapter;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Align;
 import com.waifu.memory.IQWaifuMemory;
+import com.waifu.memory.managers.UiResourceManager.FontSize;
+import com.waifu.memory.utils.CachedText;
 import com.waifu.memory.utils.Constants;
+import com.waifu.memory.utils.TextFormat;
 
 public class LevelSelectScreen extends BaseScreen {
 
@@ -26,6 +29,10 @@ public class LevelSelectScreen extends BaseScreen {
     private int selectedTab;
 
     private Rectangle[] levelButtons;
+
+    // Textos que dependen de un número: solo se maquetan cuando cambia
+    private CachedText pcoinsText;
+    private CachedText[] levelTexts; // uno por botón, reutilizados al cambiar de pestaña
     private static final int LEVELS_PER_ROW = 5;
     private static final int VISIBLE_ROWS = 6;
 
@@ -34,31 +41,35 @@ public class LevelSelectScreen extends BaseScreen {
 
     private Rectangle backButton;
 
+    // Pestañas, botones y sus números; se repinta al hacer scroll o cambiar de pestaña
+    private ScreenLayer staticLayer;
+
     private Vector3 touchPos;
 
     public LevelSelectScreen(IQWaifuMemory game) {
         super(game);
 
-        titleFont = new BitmapFont();
-        titleFont.getData().setScale(3f);
-        titleFont.setColor(Color.WHITE);
+        titleFont = uiResources.acquireFont(FontSize.TITLE);
 
-        levelFont = new BitmapFont();
-        levelFont.getData().setScale(2f);
-        levelFont.setColor(Color.WHITE);
+        levelFont = uiResources.acquireFont(FontSize.TEXT);
 
-        tabFont = new BitmapFont();
-        tabFont.getData().setScale(2f);
-        tabFont.setColor(Color.WHITE);
+        tabFont = uiResources.acquireFont(FontSize.TEXT);
 
-        layout = new GlyphLayout();
-        shapeRenderer = new ShapeRenderer();
+        layout = uiResources.obtainLayout();
+        shapeRenderer = uiResources.acquireShapeRenderer();
         touchPos = new Vector3();
 
         selectedTab = 0;
         scrollY = 0;
 
         createUI();
+        staticLayer = createLayer(new ScreenLayer.Painter() {
+            @Override
+            public void paint() {
+                drawStatic();
+            }
+        });
+        setRenderOnDemand(true);
         setupInput();
     }
 
@@ -75,6 +86,11 @@ public class LevelSelectScreen extends BaseScreen {
         tabNormal = new Rectangle(padding * 2 + tabWidth, tabY, tabWidth, tabHeight);
         tabHard = new Rectangle(padding * 3 + tabWidth * 2, tabY, tabWidth, tabHeight);
 
+        pcoinsText = new CachedText(levelFont, Align.right);
+        int maxButtons = Math.max(getLevelsForTab(0), Math.max(getLevelsForTab(1), getLevelsForTab(2)));
+        levelTexts = new CachedText[maxButtons];
+        for (int i = 0; i < levelTexts.length; i++) levelTexts[i] = new CachedText(levelFont, Align.center);
+
         createLevelButtons();
     }
 
@@ -171,7 +187,11 @@ public class LevelSelectScreen extends BaseScreen {
             @Override
             public boolean touchDragged(int screenX, int screenY, int pointer) {
                 float deltaY = Gdx.input.getDeltaY() * 2f;
-                scrollY = Math.max(0, Math.min(maxScrollY, scrollY + deltaY));
+                float newScrollY = Math.max(0, Math.min(maxScrollY, scrollY + deltaY));
+                if (newScrollY != scrollY) {
+                    scrollY = newScrollY;
+                    staticLayer.invalidate();
+                }
                 return true;
             }
         });
@@ -183,6 +203,7 @@ public class LevelSelectScreen extends BaseScreen {
             selectedTab = tab;
             scrollY = 0;
             createLevelButtons();
+            staticLayer.invalidate();
         }
     }
 
@@ -202,6 +223,19 @@ public class LevelSelectScreen extends BaseScreen {
 
     @Override
     protected void draw() {
+        staticLayer.draw(batch);
+
+        batch.begin();
+        int pcoins = getPlayerData().pcoins;
+        if (pcoinsText.changed(pcoins)) {
+            TextFormat.appendInt(pcoinsText.text().append(Constants.CURRENCY_NAME).append(": "), pcoins);
+            pcoinsText.build();
+        }
+        pcoinsText.draw(batch, Constants.WORLD_WIDTH - 40, Constants.WORLD_HEIGHT - 60);
+        batch.end();
+    }
+
+    private void drawStatic() {
         shapeRenderer.setProjectionMatrix(camera.combined);
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
 
@@ -240,10 +274,6 @@ public class LevelSelectScreen extends BaseScreen {
         layout.setText(titleFont, title);
         titleFont.draw(batch, title, Constants.WORLD_WIDTH / 2 - layout.width / 2, Constants.WORLD_HEIGHT - 40);
 
-        String pcoins = Constants.CURRENCY_NAME + ": " + getPlayerData().pcoins;
-        layout.setText(levelFont, pcoins);
-        levelFont.draw(batch, pcoins, Constants.WORLD_WIDTH - layout.width - 40, Constants.WORLD_HEIGHT - 60);
-
         layout.setText(levelFont, "<");
         levelFont.draw(batch, "<",
             backButton.x + (backButton.width - layout.width) / 2,
@@ -259,11 +289,16 @@ public class LevelSelectScreen extends BaseScreen {
             float adjustedY = btn.y + scrollY;
 
             if (adjustedY > -btn.height && adjustedY < Constants.WORLD_HEIGHT - 200) {
-                String levelText = isLevelUnlocked(levelNum) ? String.valueOf(levelNum) : "LOCK";
-                layout.setText(levelFont, levelText);
-                levelFont.draw(batch, levelText,
-                    btn.x + (btn.width - layout.width) / 2,
-                    adjustedY + (btn.height + layout.height) / 2);
+                boolean unlocked = isLevelUnlocked(levelNum);
+                CachedText levelText = levelTexts[i];
+                if (levelText.changed(levelNum, unlocked ? 1 : 0)) {
+                    if (unlocked) TextFormat.appendInt(levelText.text(), levelNum);
+                    else levelText.text().append("LOCK");
+                    levelText.build();
+                }
+                levelText.draw(batch,
+                    btn.x + btn.width / 2,
+                    adjustedY + (btn.height + levelText.getHeight()) / 2);
             }
         }
 
@@ -300,11 +335,27 @@ public class LevelSelectScreen extends BaseScreen {
         hideBanner();
     }
 
+    @Override
+    protected void reloadFonts() {
+        uiResources.releaseFont(titleFont);
+        uiResources.releaseFont(levelFont);
+        uiResources.releaseFont(tabFont);
+
+        titleFont = uiResources.acquireFont(FontSize.TITLE);
+        levelFont = uiResources.acquireFont(FontSize.TEXT);
+        tabFont = uiResources.acquireFont(FontSize.TEXT);
+
+        pcoinsText.setFont(levelFont);
+        for (CachedText text : levelTexts) text.setFont(levelFont);
+    }
+
     @Override
     public void dispose() {
-        titleFont.dispose();
-        levelFont.dispose();
-        tabFont.dispose();
-        shapeRenderer.dispose();
+        uiResources.releaseFont(titleFont);
+        uiResources.releaseFont(levelFont);
+        uiResources.releaseFont(tabFont);
+        uiResources.releaseShapeRenderer();
+        uiResources.freeLayout(layout);
+        super.dispose();
     }
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.waifu.memory.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.HdpiUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import com.waifu.memory.utils.Constants;
+
+/**
+ * Contenido estático de una pantalla dibujado una vez en un FrameBuffer del tamaño
+ * en píxeles del viewport. Mientras nadie lo invalide, cada frame es un único quad.
+ *
+ * La capa es opaca: se limpia con el color de fondo y se compone sin blending, así
+ * que es lo primero que dibuja la pantalla y lo que cambia cada frame va encima.
+ * Se crea con BaseScreen.createLayer(), que la invalida en resize/resume y la libera.
+ */
+public class ScreenLayer implements Disposable {
+
+    /**
+     * Dibuja el contenido de la capa en coordenadas de mundo, con sus propios begin()/end().
+     */
+    public interface Painter {
+        void paint();
+    }
+
+    private final Viewport viewport;
+    private final Painter painter;
+
+    private FrameBuffer fbo;
+    private TextureRegion region;
+    private boolean valid = false;
+    private boolean unsupported = false;
+    private int paintCount = 0;
+
+    ScreenLayer(Viewport viewport, Painter painter) {
+        this.viewport = viewport;
+        this.painter = painter;
+    }
+
+    /**
+     * El contenido cambió: se vuelve a pintar en el próximo draw().
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Veces que se ha pintado el contenido (en el FrameBuffer o directamente).
+     */
+    public int getPaintCount() {
+        return paintCount;
+    }
+
+    /**
+     * Pinta la capa si está invalidada y la compone ocupando todo el mundo.
+     */
+    public void draw(SpriteBatch batch) {
+        int width = HdpiUtils.toBackBufferX(viewport.getScreenWidth());
+        int height = HdpiUtils.toBackBufferY(viewport.getScreenHeight());
+
+        if (unsupported || width <= 0 || height <= 0) {
+            paintCount++;
+            painter.paint();
+            return;
+        }
+
+        if (fbo == null || fbo.getWidth() != width || fbo.getHeight() != height) {
+            if (!createFrameBuffer(width, height)) {
+                draw(batch);
+                return;
+            }
+        }
+
+        if (!valid) paintFrameBuffer();
+
+        float color = batch.getPackedColor();
+        batch.setPackedColor(Color.WHITE_FLOAT_BITS);
+        batch.setProjectionMatrix(viewport.getCamera().combined);
+        batch.disableBlending();
+        batch.begin();
+        batch.draw(region, 0, 0, Constants.WORLD_WIDTH, Constants.WORLD_HEIGHT);
+        batch.end();
+        batch.enableBlending();
+        batch.setPackedColor(color);
+    }
+
+    private boolean createFrameBuffer(int width, int height) {
+        disposeFrameBuffer();
+        try {
+            fbo = new FrameBuffer(Pixmap.Format.RGB888, width, height, false);
+        } catch (Exception e) {
+            // Sin FrameBuffer se pinta directamente cada frame, como antes de la capa
+            Gdx.app.error(Constants.TAG, "Screen layer FrameBuffer unavailable", e);
+            fbo = null;
+            unsupported = true;
+            return false;
+        }
+
+        region = new TextureRegion(fbo.getColorBufferTexture());
+        region.flip(false, true);
+        valid = false;
+        return true;
+    }
+
+    private void paintFrameBuffer() {
+        fbo.begin();
+        Gdx.gl.glClearColor(
+            Constants.COLOR_BACKGROUND[0],
+            Constants.COLOR_BACKGROUND[1],
+            Constants.COLOR_BACKGROUND[2],
+            1f
+        );
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        paintCount++;
+        painter.paint();
+
+        fbo.end();
+        // end() deja el viewport en toda la ventana; el de la pantalla tiene barras
+        viewport.apply();
+        valid = true;
+    }
+
+    private void disposeFrameBuffer() {
+        if (fbo != null) fbo.dispose();
+        fbo = null;
+        region = null;
+    }
+
+    @Override
+    public void dispose() {
+        disposeFrameBuffer();
+        valid = false;
+    }
+}
@@ -9,6 +9,7 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
 import com.waifu.memory.IQWaifuMemory;
+import com.waifu.memory.managers.UiResourceManager.FontSize;
 import com.waifu.memory.utils.Constants;
 
 /**
@@ -38,6 +39,10 @@ public class SettingsScreen extends BaseScreen {
     // Botones de acción
     private Rectangle resetButton;
     
+    // Métricas de rendimiento
+    private Rectangle perfHudButton;
+    private Rectangle perfCsvButton;
+    
     // Estado de arrastre
     private boolean draggingMusic;
     private boolean draggingSfx;
@@ -49,26 +54,21 @@ public class SettingsScreen extends BaseScreen {
         super(game);
         
         // Inicializar fuentes
-        titleFont = new BitmapFont();
-        titleFont.getData().setScale(3f);
-        titleFont.setColor(Color.WHITE);
+        titleFont = uiResources.acquireFont(FontSize.TITLE);
         
-        textFont = new BitmapFont();
-        textFont.getData().setScale(2f);
-        textFont.setColor(Color.WHITE);
+        textFont = uiResources.acquireFont(FontSize.TEXT);
         
-        smallFont = new BitmapFont();
-        smallFont.getData().setScale(1.5f);
-        smallFont.setColor(Color.LIGHT_GRAY);
+        smallFont = uiResources.acquireFont(FontSize.SMALL);
         
-        layout = new GlyphLayout();
-        shapeRenderer = new ShapeRenderer();
+        layout = uiResources.obtainLayout();
+        shapeRenderer = uiResources.acquireShapeRenderer();
         touchPos = new Vector3();
         
         draggingMusic = false;
         draggingSfx = false;
         
         createUI();
+        setRenderOnDemand(true);
         setupInput();
     }
     
@@ -93,6 +93,19 @@ public class SettingsScreen extends BaseScreen {
         sfxSliderFill = new Rectangle(sliderX, sfxY, 
             sliderWidth * getPlayerData().sfxVolume, sliderHeight);
         
+        // Toggles de métricas, debajo de las estadísticas
+        float toggleWidth = 440f;
+        perfHudButton = new Rectangle(
+            Constants.WORLD_WIDTH / 2 - toggleWidth / 2,
+            Constants.WORLD_HEIGHT - 790,
+            toggleWidth, 80
+        );
+        perfCsvButton = new Rectangle(
+            Constants.WORLD_WIDTH / 2 - toggleWidth / 2,
+            Constants.WORLD_HEIGHT - 910,
+            toggleWidth, 80
+        );
+        
         // Botón de reset (para desarrollo/testing)
         resetButton = new Rectangle(
             Constants.WORLD_WIDTH / 2 - 150,
@@ -139,6 +152,24 @@ public class SettingsScreen extends BaseScreen {
                         return true;
                     }
                     
+                    if (perfHudButton.contains(touchPos.x, touchPos.y)) {
+                        audioManager.playButtonClick();
+                        boolean enabled = !getPlayerData().perfHudEnabled;
+                        getPlayerData().perfHudEnabled = enabled;
+                        game.getPerfHud().setHudEnabled(enabled);
+                        saveProgress();
+                        return true;
+                    }
+                    
+                    if (perfCsvButton.contains(touchPos.x, touchPos.y)) {
+                        audioManager.playButtonClick();
+                        boolean enabled = !getPlayerData().perfCsvEnabled;
+                        getPlayerData().perfCsvEnabled = enabled;
+                        game.getPerfHud().setCsvEnabled(enabled);
+                        saveProgress();
+                        return true;
+                    }
+                    
                     if (resetButton.contains(touchPos.x, touchPos.y)) {
                         audioManager.playButtonClick();
                         resetAllData();
@@ -266,6 +297,14 @@ public class SettingsScreen extends BaseScreen {
         shapeRenderer.setColor(0.15f, 0.15f, 0.2f, 1f);
         shapeRenderer.rect(40, statsY, Constants.WORLD_WIDTH - 80, 200);
         
+        // ===== MÉTRICAS =====
+        setToggleColor(getPlayerData().perfHudEnabled);
+        shapeRenderer.rect(perfHudButton.x, perfHudButton.y,
+                          perfHudButton.width, perfHudButton.height);
+        setToggleColor(getPlayerData().perfCsvEnabled);
+        shapeRenderer.rect(perfCsvButton.x, perfCsvButton.y,
+                          perfCsvButton.width, perfCsvButton.height);
+        
         // ===== BOTÓN RESET =====
         shapeRenderer.setColor(0.6f, 0.2f, 0.2f, 1f);
         shapeRenderer.rect(resetButton.x, resetButton.y, 
@@ -345,6 +384,10 @@ public class SettingsScreen extends BaseScreen {
         
         smallFont.setColor(Color.WHITE);
         
+        // ===== MÉTRICAS =====
+        drawCentered(textFont, getPlayerData().perfHudEnabled ? "RENDIMIENTO: ON" : "RENDIMIENTO: OFF", perfHudButton);
+        drawCentered(textFont, getPlayerData().perfCsvEnabled ? "CSV: ON" : "CSV: OFF", perfCsvButton);
+        
         // ===== BOTÓN RESET =====
         String resetText = "BORRAR DATOS";
         layout.setText(textFont, resetText);
@@ -371,11 +414,40 @@ public class SettingsScreen extends BaseScreen {
         batch.end();
     }
     
+    private void setToggleColor(boolean enabled) {
+        if (enabled) {
+            shapeRenderer.setColor(Constants.COLOR_PRIMARY[0],
+                                   Constants.COLOR_PRIMARY[1],
+                                   Constants.COLOR_PRIMARY[2], 1f);
+        } else {
+            shapeRenderer.setColor(0.3f, 0.3f, 0.4f, 1f);
+        }
+    }
+    
+    private void drawCentered(BitmapFont font, String text, Rectangle button) {
+        layout.setText(font, text);
+        font.draw(batch, text,
+            button.x + (button.width - layout.width) / 2,
+            button.y + (button.height + layout.height) / 2);
+    }
+    
+    @Override
+    protected void reloadFonts() {
+        uiResources.releaseFont(titleFont);
+        uiResources.releaseFont(textFont);
+        uiResources.releaseFont(smallFont);
+        
+        titleFont = uiResources.acquireFont(FontSize.TITLE);
+        textFont = uiResources.acquireFont(FontSize.TEXT);
+        smallFont = uiResources.acquireFont(FontSize.SMALL);
+    }
+    
     @Override
     public void dispose() {
-        if (titleFont != null) titleFont.dispose();
-        if (textFont != null) textFont.dispose();
-        if (smallFont != null) smallFont.dispose();
-        if (shapeRenderer != null) shapeRenderer.dispose();
+        uiResources.releaseFont(titleFont);
+        uiResources.releaseFont(textFont);
+        uiResources.releaseFont(smallFont);
+        uiResources.releaseShapeRenderer();
+        uiResources.freeLayout(layout);
     }
 }
\ No newline at end of file
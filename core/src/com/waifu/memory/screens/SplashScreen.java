@@ -7,6 +7,7 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.waifu.memory.IQWaifuMemory;
+import com.waifu.memory.managers.UiResourceManager.FontSize;
 import com.waifu.memory.utils.Constants;
 
 /**
@@ -19,8 +20,9 @@ public class SplashScreen extends BaseScreen {
     private Texture logo;
     private boolean logoLoaded;
     
-    // Fuente temporal para texto
+    // Fuentes para texto
     private BitmapFont font;
+    private BitmapFont smallFont;
     private GlyphLayout layout;
     
     // Barra de progreso
@@ -47,11 +49,11 @@ public class SplashScreen extends BaseScreen {
         super(game);
         
         // Inicializar
-        font = new BitmapFont();
-        font.getData().setScale(2f);
-        layout = new GlyphLayout();
+        font = uiResources.acquireFont(FontSize.TEXT);
+        smallFont = uiResources.acquireFont(FontSize.SMALL);
+        layout = uiResources.obtainLayout();
         
-        shapeRenderer = new ShapeRenderer();
+        shapeRenderer = uiResources.acquireShapeRenderer();
         loadProgress = 0f;
         displayProgress = 0f;
         
@@ -152,13 +154,11 @@ public class SplashScreen extends BaseScreen {
             Constants.WORLD_HEIGHT * 0.25f);
         
         // Texto "Made with libGDX"
-        font.getData().setScale(1.5f);
         String madeWith = "Made with libGDX";
-        layout.setText(font, madeWith);
-        font.draw(batch, madeWith,
+        layout.setText(smallFont, madeWith);
+        smallFont.draw(batch, madeWith,
             centerX - layout.width / 2,
             100);
-        font.getData().setScale(2f);
         
         batch.end();
         
@@ -209,16 +209,23 @@ public class SplashScreen extends BaseScreen {
         }
     }
     
+    @Override
+    protected void reloadFonts() {
+        uiResources.releaseFont(font);
+        uiResources.releaseFont(smallFont);
+        
+        font = uiResources.acquireFont(FontSize.TEXT);
+        smallFont = uiResources.acquireFont(FontSize.SMALL);
+    }
+    
     @Override
     public void dispose() {
         if (logo != null) {
             logo.dispose();
         }
-        if (font != null) {
-            font.dispose();
-        }
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-        }
+        uiResources.releaseFont(font);
+        uiResources.releaseFont(smallFont);
+        uiResources.releaseShapeRenderer();
+        uiResources.freeLayout(layout);
     }
 }
\ No newline at end of file
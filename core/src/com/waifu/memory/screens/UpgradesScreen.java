@@ -2,13 +2,13 @@ package com.waifu.memory.screens;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputAdapter;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
 import com.waifu.memory.IQWaifuMemory;
+import com.waifu.memory.managers.UiResourceManager.FontSize;
 import com.waifu.memory.utils.Constants;
 
 /**
@@ -36,19 +36,16 @@ public class UpgradesScreen extends BaseScreen {
     public UpgradesScreen(IQWaifuMemory game) {
         super(game);
         
-        titleFont = new BitmapFont();
-        titleFont.getData().setScale(3f);
-        titleFont.setColor(Color.WHITE);
+        titleFont = uiResources.acquireFont(FontSize.TITLE);
         
-        textFont = new BitmapFont();
-        textFont.getData().setScale(2f);
-        textFont.setColor(Color.WHITE);
+        textFont = uiResources.acquireFont(FontSize.TEXT);
         
-        layout = new GlyphLayout();
-        shapeRenderer = new ShapeRenderer();
+        layout = uiResources.obtainLayout();
+        shapeRenderer = uiResources.acquireShapeRenderer();
         touchPos = new Vector3();
         
         createUI();
+        setRenderOnDemand(true);
         setupInput();
     }
     
@@ -243,10 +240,20 @@ public class UpgradesScreen extends BaseScreen {
         hideBanner();
     }
     
+    @Override
+    protected void reloadFonts() {
+        uiResources.releaseFont(titleFont);
+        uiResources.releaseFont(textFont);
+        
+        titleFont = uiResources.acquireFont(FontSize.TITLE);
+        textFont = uiResources.acquireFont(FontSize.TEXT);
+    }
+    
     @Override
     public void dispose() {
-        titleFont.dispose();
-        textFont.dispose();
-        shapeRenderer.dispose();
+        uiResources.releaseFont(titleFont);
+        uiResources.releaseFont(textFont);
+        uiResources.releaseShapeRenderer();
+        uiResources.freeLayout(layout);
     }
 }
\ No newline at end of file
@@ -0,0 +1,351 @@
+package com.waifu.memory.systems;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.waifu.memory.data.LevelConfig;
+import com.waifu.memory.entities.Card;
+import com.waifu.memory.entities.GameGrid;
+import com.waifu.memory.replay.ReplayRecorder;
+import com.waifu.memory.utils.Constants;
+
+/**
+ * Reglas de una partida sin dependencias de GL ni de Gdx.app: tablero, comprobación
+ * de pares, reloj, cadencia de barajado y pistas. GameScreen solo la dibuja y le
+ * pasa los toques; una simulación puede avanzarla directamente con update().
+ */
+public class GameSession {
+
+    public enum State {
+        PLAYING,
+        CHECKING_MATCH,
+        VICTORY,
+        DEFEAT,
+        PAUSED
+    }
+
+    /**
+     * Avisos para la capa de presentación (sonido, popups, economía).
+     */
+    public interface Listener {
+        void onCardFlipped(Card card);
+
+        void onMatch(Card first, Card second);
+
+        void onNoMatch(Card first, Card second);
+
+        void onTimerWarning();
+
+        void onVictory();
+
+        void onDefeat();
+
+        void onTimeExtended();
+    }
+
+    private static final float TIMER_WARNING_SECONDS = 10f;
+
+    private final LevelConfig levelConfig;
+    private final long seed;
+    private final GameGrid grid;
+    private final int pairValue;
+    private final int totalPairs;
+
+    private Listener listener;
+    private ReplayRecorder recorder;
+
+    private State state;
+
+    private Card firstCard;
+    private Card secondCard;
+    private float checkTimer;
+
+    private final float maxTime;
+    private float gameTime;
+    private boolean timerWarning;
+    private float elapsedTime; // tiempo de juego transcurrido (para la grabación)
+
+    private int pairsFound;
+    private int cardsFlippedSinceShuffle;
+    private int shuffleCount;
+    private final boolean shuffleEnabled;
+    private final int shuffleInterval;
+
+    private final boolean hintEnabled;
+    private int hintsLeft;
+
+    /**
+     * @param maxTime   tiempo inicial en segundos; debe ser mayor que 0
+     * @param pairValue monedas por par encontrado (mejora del jugador)
+     */
+    public GameSession(LevelConfig levelConfig, float maxTime, int pairValue, long seed) {
+        if (maxTime <= 0f) throw new IllegalArgumentException("maxTime must be > 0: " + maxTime);
+
+        this.levelConfig = levelConfig;
+        this.seed = seed;
+        this.maxTime = maxTime;
+        this.gameTime = maxTime;
+        this.pairValue = pairValue;
+
+        this.grid = new GameGrid(levelConfig.gridSize, levelConfig.buildCharacterPool(), new RandomXS128(seed));
+        this.totalPairs = levelConfig.totalPairs();
+
+        this.shuffleEnabled = levelConfig.shuffle;
+        this.shuffleInterval = levelConfig.shuffleInterval > 0 ? levelConfig.shuffleInterval : Constants.SHUFFLE_INTERVAL;
+
+        this.hintEnabled = Constants.isHintsEnabledForGrid(levelConfig.gridSize);
+        this.hintsLeft = hintEnabled ? Constants.HINTS_PER_MATCH : 0;
+
+        this.state = State.PLAYING;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    public void setRecorder(ReplayRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Toque sobre la carta de una celda (fila * gridSize + columna).
+     */
+    public boolean tapCell(int cell) {
+        return tapCard(grid.getCardInCell(cell));
+    }
+
+    /**
+     * Voltea la carta si el toque es válido. Devuelve false si se ignora.
+     */
+    public boolean tapCard(Card card) {
+        if (state != State.PLAYING) return false;
+        if (card == null) return false;
+        if (card.isMatched()) return false;
+        if (card.isRevealed()) return false;
+        if (card.isAnimating()) return false;
+        if (card == firstCard) return false;
+
+        // FIX: No permitir si ya hay 2 cartas seleccionadas
+        if (firstCard != null && secondCard != null) return false;
+
+        if (recorder != null) recorder.recordTap(elapsedTime, card.getGridIndex());
+
+        card.flip();
+        cardsFlippedSinceShuffle++;
+        if (listener != null) listener.onCardFlipped(card);
+
+        if (firstCard == null) {
+            firstCard = card;
+        } else {
+            secondCard = card;
+            state = State.CHECKING_MATCH;
+            checkTimer = Constants.CARD_SHOW_TIME;
+        }
+        return true;
+    }
+
+    /**
+     * Avanza la partida. El delta se redondea a microsegundos enteros y, si la
+     * partida corre, se graba: la repetición aplica los mismos pasos con los mismos bits.
+     */
+    public void update(float delta) {
+        int micros = toMicros(delta);
+        delta = micros / 1000000f;
+
+        if (state == State.PLAYING || state == State.CHECKING_MATCH) {
+            if (recorder != null && micros > 0) recorder.recordFrame(elapsedTime, micros);
+            elapsedTime += delta;
+        }
+
+        if (state == State.PLAYING) {
+            gameTime -= delta;
+
+            if (gameTime <= TIMER_WARNING_SECONDS && !timerWarning) {
+                timerWarning = true;
+                if (listener != null) listener.onTimerWarning();
+            }
+
+            if (gameTime <= 0f) {
+                gameTime = 0f;
+                state = State.DEFEAT;
+                if (listener != null) listener.onDefeat();
+                return;
+            }
+
+            grid.update(delta);
+
+        } else if (state == State.CHECKING_MATCH) {
+            // El reloj se para mientras se muestran las dos cartas, la animación no
+            grid.update(delta);
+
+            checkTimer -= delta;
+            if (checkTimer <= 0f) checkMatch();
+        }
+    }
+
+    public static int toMicros(float seconds) {
+        return Math.max(0, Math.round(seconds * 1000000f));
+    }
+
+    private void checkMatch() {
+        // FIX: Validación robusta
+        if (firstCard == null || secondCard == null) {
+            firstCard = null;
+            secondCard = null;
+            state = State.PLAYING;
+            return;
+        }
+
+        Card first = firstCard;
+        Card second = secondCard;
+        firstCard = null;
+        secondCard = null;
+
+        if (first.getCharacterId() == second.getCharacterId()) {
+            // MATCH EXITOSO
+            first.setMatched(true);
+            second.setMatched(true);
+            pairsFound++;
+
+            // FIX: Resetear contador, NO shuffle después de acertar
+            cardsFlippedSinceShuffle = 0;
+
+            if (grid.isAllMatched()) {
+                state = State.VICTORY;
+                if (listener != null) listener.onMatch(first, second);
+                if (listener != null) listener.onVictory();
+                return;
+            }
+
+            state = State.PLAYING;
+            if (listener != null) listener.onMatch(first, second);
+        } else {
+            // NO MATCH
+            first.flipBack();
+            second.flipBack();
+
+            // FIX: Solo shuffle después de NO MATCH
+            if (shuffleEnabled && cardsFlippedSinceShuffle >= shuffleInterval && grid.canShuffle()) {
+                grid.shuffleUnmatched();
+                cardsFlippedSinceShuffle = 0;
+                shuffleCount++;
+            }
+
+            state = State.PLAYING;
+            if (listener != null) listener.onNoMatch(first, second);
+        }
+    }
+
+    /**
+     * Gasta una pista si hay alguna y el tablero permite mostrarla.
+     */
+    public boolean applyHint() {
+        if (!hintEnabled || hintsLeft <= 0) return false;
+        if (!grid.triggerHintShake()) return false;
+        if (recorder != null) recorder.recordHint(elapsedTime);
+        hintsLeft--;
+        return true;
+    }
+
+    /**
+     * Tiempo extra tras una derrota: la partida continúa con Constants.AD_EXTRA_TIME.
+     */
+    public boolean applyExtraTime() {
+        if (state != State.DEFEAT) return false;
+        if (recorder != null) recorder.recordExtraTime(elapsedTime);
+
+        gameTime = Constants.AD_EXTRA_TIME;
+        timerWarning = false;
+        state = State.PLAYING;
+        if (listener != null) listener.onTimeExtended();
+        return true;
+    }
+
+    public boolean pause() {
+        if (state != State.PLAYING) return false;
+        state = State.PAUSED;
+        return true;
+    }
+
+    public boolean resume() {
+        if (state != State.PAUSED) return false;
+        state = State.PLAYING;
+        return true;
+    }
+
+    public boolean isRunning() {
+        return state == State.PLAYING || state == State.CHECKING_MATCH;
+    }
+
+    public boolean isFinished() {
+        return state == State.VICTORY || state == State.DEFEAT;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public LevelConfig getLevelConfig() {
+        return levelConfig;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public GameGrid getGrid() {
+        return grid;
+    }
+
+    public float getCheckTimer() {
+        return checkTimer;
+    }
+
+    public float getMaxTime() {
+        return maxTime;
+    }
+
+    public float getTimeLeft() {
+        return gameTime;
+    }
+
+    public boolean isTimerWarning() {
+        return timerWarning;
+    }
+
+    public float getElapsedTime() {
+        return elapsedTime;
+    }
+
+    public int getPairsFound() {
+        return pairsFound;
+    }
+
+    public int getTotalPairs() {
+        return totalPairs;
+    }
+
+    /**
+     * Monedas acumuladas por pares durante la partida (sin bonus de victoria).
+     */
+    public int getPairsReward() {
+        return pairsFound * pairValue;
+    }
+
+    public int getCardsFlippedSinceShuffle() {
+        return cardsFlippedSinceShuffle;
+    }
+
+    /**
+     * Barajados hechos en la partida: cambia cuando las cartas cambian de celda.
+     */
+    public int getShuffleCount() {
+        return shuffleCount;
+    }
+
+    public boolean isHintEnabled() {
+        return hintEnabled;
+    }
+
+    public int getHintsLeft() {
+        return hintsLeft;
+    }
+}
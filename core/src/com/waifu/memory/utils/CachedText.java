@@ -0,0 +1,123 @@
+package com.waifu.memory.utils;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+
+/**
+ * Una línea de texto con los vértices ya calculados en un BitmapFontCache.
+ * El contenido depende de hasta dos enteros: solo se vuelve a maquetar cuando
+ * cambian, y moverla o cambiarle el color no la maqueta de nuevo.
+ *
+ * Uso:
+ * <pre>
+ * if (pairsText.changed(found, total)) {
+ *     TextFormat.appendInt(pairsText.text().append("Pares: "), found);
+ *     pairsText.build();
+ * }
+ * pairsText.draw(batch, x, y);
+ * </pre>
+ */
+public class CachedText {
+
+    private BitmapFontCache cache;
+    private final int halign;
+    private final StringBuilder text = new StringBuilder(32);
+    private final Color color = new Color(Color.WHITE);
+
+    private boolean valid = false;
+    private int keyA;
+    private int keyB;
+
+    private float x;
+    private float y;
+    private float width;
+    private float height;
+
+    /**
+     * @param halign Align.left, Align.center o Align.right respecto a la x de draw()
+     */
+    public CachedText(BitmapFont font, int halign) {
+        this.cache = font.newFontCache();
+        this.halign = halign;
+    }
+
+    public boolean changed(int key) {
+        return changed(key, 0);
+    }
+
+    /**
+     * True si las claves cambiaron desde el último build; en ese caso el texto
+     * queda vacío para rellenarlo con text() y llamar a build().
+     */
+    public boolean changed(int keyA, int keyB) {
+        if (valid && keyA == this.keyA && keyB == this.keyB) return false;
+        this.keyA = keyA;
+        this.keyB = keyB;
+        text.setLength(0);
+        return true;
+    }
+
+    public StringBuilder text() {
+        return text;
+    }
+
+    /**
+     * Maqueta el texto actual en el origen; draw() lo traslada.
+     */
+    public void build() {
+        cache.setColor(color);
+        GlyphLayout layout = cache.setText(text, 0, 0, 0, halign, false);
+        width = layout.width;
+        height = layout.height;
+        x = 0;
+        y = 0;
+        valid = true;
+    }
+
+    public void setColor(Color newColor) {
+        if (color.equals(newColor)) return;
+        color.set(newColor);
+        cache.setColors(color);
+    }
+
+    /**
+     * Pasa a otra fuente (UiResourceManager las rehace al cambiar idioma o tamaño).
+     * El texto se vuelve a maquetar en el próximo changed().
+     */
+    public void setFont(BitmapFont font) {
+        cache = font.newFontCache();
+        x = 0;
+        y = 0;
+        valid = false;
+    }
+
+    /**
+     * Fuerza a maquetar en el próximo changed(), aunque las claves no cambien.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+
+    /**
+     * Dibuja con la esquina superior en (x, y), como BitmapFont.draw.
+     */
+    public void draw(Batch batch, float x, float y) {
+        if (x != this.x || y != this.y) {
+            cache.setPosition(x, y);
+            this.x = x;
+            this.y = y;
+        }
+        cache.draw(batch);
+    }
+}
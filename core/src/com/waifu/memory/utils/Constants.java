@@ -75,11 +75,49 @@ public final class Constants {
     public static final String PATH_FRAMES = "images/frames/";
     public static final String PATH_UI = "images/ui/";
 
+    // Paquete mapeado con los PNG de personajes (tarea :core:packCharacters)
+    public static final String CHARACTER_PACK_PATH = "images/characters.pack";
+    public static final int ASSET_PACK_VERSION = 2;
+
     public static final String PATH_MUSIC = "audio/music/";
     public static final String PATH_SFX = "audio/sfx/";
 
+    // Caché local de miniaturas; subir la versión invalida las generadas antes
+    public static final String PATH_THUMB_CACHE = "cache/thumbs/v1/";
+    public static final String THUMB_EXTENSION = ".cim";
+
+    // Fuente de la UI en assets/fonts (.ttf u .otf); ui_<idioma> tiene prioridad para
+    // escrituras que la general no cubre. Sin archivo se usa la fuente por defecto de libGDX
+    public static final String FONT_UI_NAME = "ui";
+    public static final String[] FONT_EXTENSIONS = {".ttf", ".otf"};
+    // Tamaño en unidades de mundo de la fuente por defecto con escala 1
+    public static final int FONT_BASE_SIZE = 15;
+    public static final int FONT_MIN_PIXEL_SIZE = 8;
+    public static final int FONT_PAGE_SIZE = 1024;
+
+    // Caché local de fuentes rasterizadas con FreeType
+    public static final int FONT_CACHE_VERSION = 1;
+    public static final String PATH_FONT_CACHE = "cache/fonts/v" + FONT_CACHE_VERSION + "/";
+
+    // Subir la versión al cambiar cómo se dibujan los placeholders
+    public static final int PLACEHOLDER_CACHE_VERSION = 1;
+    public static final String PLACEHOLDER_CACHE_PATH = "cache/placeholders_v" + PLACEHOLDER_CACHE_VERSION + ".bin";
+
+    // Última partida grabada (ReplayRecorder / ReplayRunner)
+    public static final String REPLAY_LAST_PATH = "replays/last.iqr";
+
+    // Métricas por frame (PerfHud): CSV en almacenamiento local, rota al llegar al máximo
+    public static final String PERF_CSV_PATH = "perf/frames.csv";
+    public static final String PERF_CSV_ROTATED_PATH = "perf/frames.1.csv";
+    public static final long PERF_CSV_MAX_BYTES = 1024L * 1024L;
+    public static final int PERF_CSV_FLUSH_FRAMES = 120;
+    public static final int PERF_HUD_WINDOW_FRAMES = 240;
+    public static final int PERF_HUD_REFRESH_FRAMES = 15;
+
     public static final String CHARACTER_PREFIX = "char_";
     public static final String IMAGE_EXTENSION = ".png";
+    public static final String COMPRESSED_EXTENSION_ETC2 = ".etc2.ktx";
+    public static final String COMPRESSED_EXTENSION_ASTC = ".astc.ktx";
 
     public static final String FRAME_BASE = "frame_base.png";
     public static final String FRAME_STAR1 = "frame_star1.png";
@@ -111,6 +149,25 @@ public final class Constants {
 
     public static final int ASSET_SIZE_LOGO = 512;
 
+    public static final int ASSET_DECODE_THREADS = 2;
+    public static final float ASSET_UPLOAD_BUDGET_MS = 4f;
+
+    public static final int ATLAS_PAGE_SIZE = 2048;
+    public static final int ATLAS_PADDING = 4;
+
+    public static final int TEXTURE_TIER_FULL = 0;
+    public static final int TEXTURE_TIER_HALF = 1;
+    public static final int TEXTURE_TIER_QUARTER = 2;
+    public static final String[] TEXTURE_TIER_DIRS = {"", "half/", "quarter/"};
+
+    public static final long TEXTURE_BUDGET_BYTES = 64L * 1024L * 1024L;
+
+    public static final int THUMB_WIDTH = 128;
+    public static final int THUMB_HEIGHT = 180;
+    public static final int THUMB_ATLAS_SIZE = 1024;
+    // Espera antes de volver a pedir una miniatura que no se pudo decodificar
+    public static final long THUMB_RETRY_DELAY_MS = 2000;
+
     public static final int ASSET_SIZE_CHARACTERS = ASSET_CARD_WIDTH;
     public static final int ASSET_SIZE_CHARACTERS_H = ASSET_CARD_HEIGHT;
     public static final int ASSET_SIZE_FRAMES = ASSET_CARD_WIDTH;
@@ -126,6 +183,8 @@ public final class Constants {
     public static final float DEFAULT_SFX_VOLUME = 1.0f;
 
     public static final float TRANSITION_DURATION = 0.3f;
+    // Segundos que late el botón PLAY tras entrar o tocar; después Home deja de dibujar
+    public static final float HOME_PULSE_SECONDS = 6f;
     public static final float POPUP_ANIMATION_TIME = 0.25f;
     public static final float BUTTON_SCALE_PRESSED = 0.95f;
 
@@ -173,6 +232,10 @@ public final class Constants {
         return PATH_CHARACTERS + getCharacterFileName(characterId, variant);
     }
 
+    public static String getThumbnailCachePath(int characterId, int variant) {
+        return String.format("%s%s%02d_%d%s", PATH_THUMB_CACHE, CHARACTER_PREFIX, characterId, variant, THUMB_EXTENSION);
+    }
+
     public static String getFrameFileName(int variant) {
         switch (variant) {
             case 0: return FRAME_BASE;
@@ -187,6 +250,23 @@ public final class Constants {
         return PATH_FRAMES + getFrameFileName(variant);
     }
 
+    /**
+     * Ruta del mismo asset en un tier reducido: images/characters/half/char_01_0.png
+     */
+    public static String getTierPath(String path, int tier) {
+        if (tier <= TEXTURE_TIER_FULL || tier >= TEXTURE_TIER_DIRS.length) return path;
+        int slash = path.lastIndexOf('/');
+        return path.substring(0, slash + 1) + TEXTURE_TIER_DIRS[tier] + path.substring(slash + 1);
+    }
+
+    public static int getTierWidth(int tier) {
+        return ASSET_CARD_WIDTH >> Math.max(0, tier);
+    }
+
+    public static int getTierHeight(int tier) {
+        return ASSET_CARD_HEIGHT >> Math.max(0, tier);
+    }
+
     public static String getUiPath(String fileName) {
         return PATH_UI + fileName;
     }
@@ -0,0 +1,240 @@
+package com.waifu.memory.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.waifu.memory.managers.AssetManager;
+import java.util.Arrays;
+
+/**
+ * Métricas por frame: percentiles de tiempo de frame, render calls y sprites del
+ * SpriteBatch, contadores de GLProfiler, heap y memoria de texturas de AssetManager.
+ * Puede dibujarlas encima de la pantalla y/o volcarlas a un CSV rotativo en
+ * almacenamiento local. Apagada no cuesta nada: GLProfiler solo se activa si hace falta.
+ */
+public class PerfHud implements Disposable {
+
+    private static final String CSV_HEADER = "frame,timeMs,frameMs,renderCalls,maxSprites,drawCalls,"
+        + "textureBinds,shaderSwitches,glCalls,vertices,javaHeap,nativeHeap,textureBytes\n";
+
+    private static final float TEXT_MARGIN = 12f;
+
+    private final SpriteBatch batch;
+    private final AssetManager assetManager;
+    private final GLProfiler profiler;
+
+    private BitmapFont font;
+    private final Matrix4 projection = new Matrix4();
+
+    private boolean hudEnabled;
+    private boolean csvEnabled;
+
+    // Ventana circular de tiempos de frame en ms
+    private final float[] frameTimes = new float[Constants.PERF_HUD_WINDOW_FRAMES];
+    private final float[] sortedTimes = new float[Constants.PERF_HUD_WINDOW_FRAMES];
+    private int frameTimeCount;
+    private int frameTimeNext;
+    private long frame;
+    private long startMillis;
+
+    private int renderCallsAtStart;
+
+    private float frameMs;
+    private int renderCalls;
+    private int maxSprites;
+    private int drawCalls;
+    private int textureBinds;
+    private int shaderSwitches;
+    private int glCalls;
+    private int vertices;
+
+    private final StringBuilder hudText = new StringBuilder(256);
+    private final StringBuilder csv = new StringBuilder(16 * 1024);
+    private int csvRows;
+
+    public PerfHud(SpriteBatch batch, AssetManager assetManager) {
+        this.batch = batch;
+        this.assetManager = assetManager;
+        this.profiler = new GLProfiler(Gdx.graphics);
+    }
+
+    public boolean isHudEnabled() {
+        return hudEnabled;
+    }
+
+    public void setHudEnabled(boolean enabled) {
+        if (enabled && font == null) {
+            font = new BitmapFont();
+            font.getData().setScale(Math.max(1f, Gdx.graphics.getDensity()));
+            font.setColor(Color.GREEN);
+        }
+        hudEnabled = enabled;
+        updateProfiler();
+    }
+
+    public boolean isCsvEnabled() {
+        return csvEnabled;
+    }
+
+    public void setCsvEnabled(boolean enabled) {
+        if (!enabled) flushCsv();
+        csvEnabled = enabled;
+        updateProfiler();
+    }
+
+    private boolean isActive() {
+        return hudEnabled || csvEnabled;
+    }
+
+    private void updateProfiler() {
+        if (isActive() && !profiler.isEnabled()) {
+            profiler.enable();
+            startMillis = TimeUtils.millis();
+            frameTimeCount = 0;
+            frameTimeNext = 0;
+        } else if (!isActive() && profiler.isEnabled()) {
+            profiler.disable();
+        }
+    }
+
+    /**
+     * Al principio del frame, antes de subir texturas y dibujar la pantalla.
+     */
+    public void beginFrame() {
+        if (!isActive()) return;
+        profiler.reset();
+        renderCallsAtStart = batch.totalRenderCalls;
+        batch.maxSpritesInBatch = 0;
+    }
+
+    /**
+     * Al final del frame: recoge los contadores y, si el overlay está activo, lo dibuja.
+     * Lo que dibuja el overlay no cuenta (el siguiente beginFrame lo descarta).
+     */
+    public void endFrame() {
+        if (!isActive()) return;
+
+        frame++;
+        frameMs = Gdx.graphics.getDeltaTime() * 1000f;
+        renderCalls = batch.totalRenderCalls - renderCallsAtStart;
+        maxSprites = batch.maxSpritesInBatch;
+        drawCalls = profiler.getDrawCalls();
+        textureBinds = profiler.getTextureBindings();
+        shaderSwitches = profiler.getShaderSwitches();
+        glCalls = profiler.getCalls();
+        vertices = (int) profiler.getVertexCount().total;
+
+        frameTimes[frameTimeNext] = frameMs;
+        frameTimeNext = (frameTimeNext + 1) % frameTimes.length;
+        if (frameTimeCount < frameTimes.length) frameTimeCount++;
+
+        if (csvEnabled) appendCsvRow();
+
+        if (hudEnabled) {
+            if (frame % Constants.PERF_HUD_REFRESH_FRAMES == 1 || hudText.length() == 0) buildHudText();
+            drawHud();
+        }
+    }
+
+    private void buildHudText() {
+        System.arraycopy(frameTimes, 0, sortedTimes, 0, frameTimeCount);
+        Arrays.sort(sortedTimes, 0, frameTimeCount);
+
+        hudText.setLength(0);
+        hudText.append("frame ms p50 ");
+        TextFormat.appendTenths(hudText, percentile(0.5f));
+        hudText.append("  p95 ");
+        TextFormat.appendTenths(hudText, percentile(0.95f));
+        hudText.append("  p99 ");
+        TextFormat.appendTenths(hudText, percentile(0.99f));
+        hudText.append('\n');
+
+        hudText.append("batch calls ").append(renderCalls)
+            .append("  max sprites ").append(maxSprites).append('\n');
+        hudText.append("draws ").append(drawCalls)
+            .append("  binds ").append(textureBinds)
+            .append("  shaders ").append(shaderSwitches)
+            .append("  gl ").append(glCalls)
+            .append("  verts ").append(vertices).append('\n');
+        hudText.append("heap ").append(Gdx.app.getJavaHeap() >> 20).append(" MB")
+            .append("  native ").append(Gdx.app.getNativeHeap() >> 20).append(" MB")
+            .append("  tex ").append(assetManager.getTextureMemoryBytes() >> 20).append(" MB");
+        if (csvEnabled) hudText.append("  [csv]");
+    }
+
+    private float percentile(float p) {
+        if (frameTimeCount == 0) return 0f;
+        return sortedTimes[Math.min(frameTimeCount - 1, (int) (p * frameTimeCount))];
+    }
+
+    private void drawHud() {
+        int width = Gdx.graphics.getWidth();
+        int height = Gdx.graphics.getHeight();
+
+        // Coordenadas de pantalla: el overlay no depende del viewport de cada pantalla
+        batch.setProjectionMatrix(projection.setToOrtho2D(0, 0, width, height));
+        batch.begin();
+        font.draw(batch, hudText, TEXT_MARGIN, height - TEXT_MARGIN);
+        batch.end();
+    }
+
+    private void appendCsvRow() {
+        csv.append(frame).append(',')
+            .append(TimeUtils.timeSinceMillis(startMillis)).append(',');
+        TextFormat.appendTenths(csv, frameMs);
+        csv.append(',').append(renderCalls)
+            .append(',').append(maxSprites)
+            .append(',').append(drawCalls)
+            .append(',').append(textureBinds)
+            .append(',').append(shaderSwitches)
+            .append(',').append(glCalls)
+            .append(',').append(vertices)
+            .append(',').append(Gdx.app.getJavaHeap())
+            .append(',').append(Gdx.app.getNativeHeap())
+            .append(',').append(assetManager.getTextureMemoryBytes())
+            .append('\n');
+
+        if (++csvRows >= Constants.PERF_CSV_FLUSH_FRAMES) flushCsv();
+    }
+
+    /**
+     * Escribe las filas pendientes. Al pasar de PERF_CSV_MAX_BYTES el archivo actual
+     * pasa a ser el rotado y se empieza otro con cabecera. El juego lo llama también
+     * en pause(): en Android el proceso puede morir sin llegar a dispose().
+     */
+    public void flushCsv() {
+        if (csvRows == 0) return;
+
+        try {
+            if (Gdx.files.isLocalStorageAvailable()) {
+                FileHandle file = Gdx.files.local(Constants.PERF_CSV_PATH);
+                if (file.exists() && file.length() >= Constants.PERF_CSV_MAX_BYTES) {
+                    file.moveTo(Gdx.files.local(Constants.PERF_CSV_ROTATED_PATH));
+                }
+                if (!file.exists()) file.writeString(CSV_HEADER, false, "UTF-8");
+                file.writeString(csv.toString(), true, "UTF-8");
+            }
+        } catch (Exception e) {
+            Gdx.app.error(Constants.TAG, "Could not write " + Constants.PERF_CSV_PATH, e);
+        }
+
+        csv.setLength(0);
+        csvRows = 0;
+    }
+
+    @Override
+    public void dispose() {
+        flushCsv();
+        if (profiler.isEnabled()) profiler.disable();
+        if (font != null) {
+            font.dispose();
+            font = null;
+        }
+    }
+}
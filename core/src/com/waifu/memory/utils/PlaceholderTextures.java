@@ -1,31 +1,87 @@
 package com.waifu.memory.utils;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.utils.Disposable;
-
+import com.badlogic.gdx.utils.StreamUtils;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Texturas de relleno mientras falta el arte real.
+ * Los Pixmaps se generan una vez fuera del hilo de render y se guardan en un
+ * archivo local versionado; en los siguientes arranques se leen directamente.
+ */
 public class PlaceholderTextures implements Disposable {
 
+    private static final int CACHE_MAGIC = 0x49515750; // "IQWP"
+    private static final int IO_BUFFER_SIZE = 32 * 1024;
+
+    // Orden de los Pixmaps en memoria y en el archivo
+    private static final int INDEX_CHARACTER = 0;
+    private static final int INDEX_CARD_BACK = 1;
+    private static final int INDEX_FIRST_FRAME = 2;
+
     private Texture character;
     private Texture cardBack;
     private Texture[] frames;
     private boolean initialized = false;
 
+    private AsyncResult<Pixmap[]> pending;
+
+    /**
+     * Empieza a leer o generar los Pixmaps en el executor. init() espera el
+     * resultado, así que conviene llamarlo antes de otras cargas síncronas.
+     */
+    public void prepare(final int width, final int height, final int variants, AsyncExecutor executor) {
+        if (initialized || pending != null) return;
+
+        pending = executor.submit(new AsyncTask<Pixmap[]>() {
+            @Override
+            public Pixmap[] call() {
+                return loadOrGenerate(width, height, Math.max(1, variants));
+            }
+        });
+    }
+
     public void init(int width, int height, int variants) {
         if (initialized) return;
 
         int vCount = Math.max(1, variants);
-        frames = new Texture[vCount];
+        long start = TimeUtils.millis();
+
+        Pixmap[] pixmaps = null;
+        if (pending != null) {
+            try {
+                pixmaps = pending.get();
+            } catch (Exception e) {
+                Gdx.app.error(Constants.TAG, "Placeholder generation failed", e);
+            }
+            pending = null;
+        }
+        if (pixmaps == null || pixmaps.length != INDEX_FIRST_FRAME + vCount) {
+            pixmaps = loadOrGenerate(width, height, vCount);
+        }
 
-        character = createCharacterPlaceholder(width, height);
-        cardBack = createCardBackPlaceholder(width, height);
+        character = toTexture(pixmaps[INDEX_CHARACTER]);
+        cardBack = toTexture(pixmaps[INDEX_CARD_BACK]);
 
+        frames = new Texture[vCount];
         for (int i = 0; i < vCount; i++) {
-            Color c = getFrameColor(i);
-            frames[i] = createFramePlaceholder(width, height, c, i);
+            frames[i] = toTexture(pixmaps[INDEX_FIRST_FRAME + i]);
         }
 
+        Gdx.app.log(Constants.TAG, "Placeholders ready in " + TimeUtils.timeSinceMillis(start) + " ms on render thread");
         initialized = true;
     }
 
@@ -44,7 +100,118 @@ public class PlaceholderTextures implements Disposable {
         return frames[v];
     }
 
-    private Texture createCharacterPlaceholder(int width, int height) {
+    private static Texture toTexture(Pixmap p) {
+        Texture t = new Texture(p);
+        t.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        p.dispose();
+        return t;
+    }
+
+    private Pixmap[] loadOrGenerate(int width, int height, int vCount) {
+        long start = TimeUtils.millis();
+
+        FileHandle file = getCacheFile();
+        Pixmap[] pixmaps = readCache(file, width, height, vCount);
+        if (pixmaps != null) {
+            Gdx.app.log(Constants.TAG, "Placeholders read from cache in " + TimeUtils.timeSinceMillis(start) + " ms");
+            return pixmaps;
+        }
+
+        pixmaps = new Pixmap[INDEX_FIRST_FRAME + vCount];
+        pixmaps[INDEX_CHARACTER] = createCharacterPlaceholder(width, height);
+        pixmaps[INDEX_CARD_BACK] = createCardBackPlaceholder(width, height);
+        for (int i = 0; i < vCount; i++) {
+            pixmaps[INDEX_FIRST_FRAME + i] = createFramePlaceholder(width, height, getFrameColor(i), i);
+        }
+        Gdx.app.log(Constants.TAG, "Placeholders generated in " + TimeUtils.timeSinceMillis(start) + " ms");
+
+        writeCache(file, pixmaps, width, height);
+        return pixmaps;
+    }
+
+    private static FileHandle getCacheFile() {
+        if (!Gdx.files.isLocalStorageAvailable()) return null;
+        return Gdx.files.local(Constants.PLACEHOLDER_CACHE_PATH);
+    }
+
+    /**
+     * Lee el archivo de caché si coincide versión y tamaño; si no, null.
+     */
+    private static Pixmap[] readCache(FileHandle file, int width, int height, int vCount) {
+        if (file == null || !file.exists()) return null;
+
+        int count = INDEX_FIRST_FRAME + vCount;
+        Pixmap[] pixmaps = new Pixmap[count];
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new InflaterInputStream(file.read(IO_BUFFER_SIZE)));
+            if (in.readInt() != CACHE_MAGIC
+                || in.readInt() != Constants.PLACEHOLDER_CACHE_VERSION
+                || in.readInt() != width
+                || in.readInt() != height
+                || in.readInt() != count) {
+                return null;
+            }
+
+            byte[] buffer = new byte[IO_BUFFER_SIZE];
+            for (int i = 0; i < count; i++) {
+                pixmaps[i] = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+                ByteBuffer pixels = pixmaps[i].getPixels();
+                pixels.clear();
+                while (pixels.hasRemaining()) {
+                    int n = Math.min(buffer.length, pixels.remaining());
+                    in.readFully(buffer, 0, n);
+                    pixels.put(buffer, 0, n);
+                }
+                pixels.flip();
+            }
+            return pixmaps;
+        } catch (Exception e) {
+            Gdx.app.error(Constants.TAG, "Placeholder cache unreadable, regenerating", e);
+            for (Pixmap p : pixmaps) {
+                if (p != null) p.dispose();
+            }
+            file.delete();
+            return null;
+        } finally {
+            StreamUtils.closeQuietly(in);
+        }
+    }
+
+    private static void writeCache(FileHandle file, Pixmap[] pixmaps, int width, int height) {
+        if (file == null) return;
+
+        DataOutputStream out = null;
+        boolean written = false;
+        try {
+            out = new DataOutputStream(new DeflaterOutputStream(file.write(false, IO_BUFFER_SIZE)));
+            out.writeInt(CACHE_MAGIC);
+            out.writeInt(Constants.PLACEHOLDER_CACHE_VERSION);
+            out.writeInt(width);
+            out.writeInt(height);
+            out.writeInt(pixmaps.length);
+
+            byte[] buffer = new byte[IO_BUFFER_SIZE];
+            for (Pixmap p : pixmaps) {
+                ByteBuffer pixels = p.getPixels().duplicate();
+                pixels.clear();
+                while (pixels.hasRemaining()) {
+                    int n = Math.min(buffer.length, pixels.remaining());
+                    pixels.get(buffer, 0, n);
+                    out.write(buffer, 0, n);
+                }
+            }
+            out.close();
+            written = true;
+        } catch (Exception e) {
+            Gdx.app.error(Constants.TAG, "Could not write placeholder cache", e);
+        } finally {
+            StreamUtils.closeQuietly(out);
+            if (!written) file.delete();
+        }
+    }
+
+    private Pixmap createCharacterPlaceholder(int width, int height) {
         Pixmap p = new Pixmap(width, height, Pixmap.Format.RGBA8888);
 
         p.setColor(new Color(0.30f, 0.30f, 0.40f, 1f));
@@ -57,13 +224,10 @@ public class PlaceholderTextures implements Disposable {
 
         drawBorder(p, width, height, Color.WHITE);
 
-        Texture t = new Texture(p);
-        t.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        p.dispose();
-        return t;
+        return p;
     }
 
-    private Texture createCardBackPlaceholder(int width, int height) {
+    private Pixmap createCardBackPlaceholder(int width, int height) {
         Pixmap p = new Pixmap(width, height, Pixmap.Format.RGBA8888);
 
         p.setColor(new Color(0.12f, 0.12f, 0.22f, 1f));
@@ -76,13 +240,10 @@ public class PlaceholderTextures implements Disposable {
 
         drawBorder(p, width, height, Color.WHITE);
 
-        Texture t = new Texture(p);
-        t.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        p.dispose();
-        return t;
+        return p;
     }
 
-    private Texture createFramePlaceholder(int width, int height, Color color, int variant) {
+    private Pixmap createFramePlaceholder(int width, int height, Color color, int variant) {
         Pixmap p = new Pixmap(width, height, Pixmap.Format.RGBA8888);
 
         p.setColor(0f, 0f, 0f, 0f);
@@ -109,10 +270,7 @@ public class PlaceholderTextures implements Disposable {
 
         drawStars(p, width, height, variant);
 
-        Texture t = new Texture(p);
-        t.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        p.dispose();
-        return t;
+        return p;
     }
 
     private void drawBorder(Pixmap p, int width, int height, Color color) {
@@ -210,6 +368,16 @@ public class PlaceholderTextures implements Disposable {
 
     @Override
     public void dispose() {
+        if (pending != null) {
+            try {
+                Pixmap[] pixmaps = pending.get();
+                if (pixmaps != null) {
+                    for (Pixmap p : pixmaps) p.dispose();
+                }
+            } catch (Exception ignored) {
+            }
+            pending = null;
+        }
         if (character != null) character.dispose();
         if (cardBack != null) cardBack.dispose();
         if (frames != null) {
@@ -217,6 +385,9 @@ public class PlaceholderTextures implements Disposable {
                 if (t != null) t.dispose();
             }
         }
+        character = null;
+        cardBack = null;
+        frames = null;
         initialized = false;
     }
 }
\ No newline at end of file
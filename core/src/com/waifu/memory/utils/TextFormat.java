@@ -0,0 +1,60 @@
+package com.waifu.memory.utils;
+
+/**
+ * Formato de números sobre un StringBuilder sin crear objetos: sustituye a
+ * String.format y a la concatenación en el código que corre cada frame.
+ * Usa siempre '.' como separador decimal, sin depender del Locale.
+ */
+public final class TextFormat {
+
+    private TextFormat() {
+    }
+
+    public static StringBuilder appendInt(StringBuilder sb, int value) {
+        return appendInt(sb, value, 1);
+    }
+
+    /**
+     * Añade value en decimal con al menos minDigits dígitos (ceros a la izquierda).
+     */
+    public static StringBuilder appendInt(StringBuilder sb, int value, int minDigits) {
+        long v = value;
+        if (v < 0) {
+            sb.append('-');
+            v = -v;
+        }
+
+        int digits = 1;
+        for (long p = 10; p <= v; p *= 10) digits++;
+        for (int i = digits; i < minDigits; i++) sb.append('0');
+
+        long divisor = 1;
+        for (int i = 1; i < digits; i++) divisor *= 10;
+        for (; divisor > 0; divisor /= 10) {
+            sb.append((char) ('0' + (v / divisor) % 10));
+        }
+        return sb;
+    }
+
+    /**
+     * Añade value con un decimal redondeado ("12.3").
+     */
+    public static StringBuilder appendTenths(StringBuilder sb, float value) {
+        int tenths = Math.round(value * 10f);
+        if (tenths < 0) {
+            sb.append('-');
+            tenths = -tenths;
+        }
+        appendInt(sb, tenths / 10);
+        return sb.append('.').append((char) ('0' + tenths % 10));
+    }
+
+    /**
+     * Añade segundos como mm:ss.
+     */
+    public static StringBuilder appendTime(StringBuilder sb, int seconds) {
+        appendInt(sb, seconds / 60, 2);
+        sb.append(':');
+        return appendInt(sb, seconds % 60, 2);
+    }
+}
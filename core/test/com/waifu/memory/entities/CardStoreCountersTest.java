@@ -0,0 +1,121 @@
+package com.waifu.memory.entities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.badlogic.gdx.utils.IntIntMap;
+import com.waifu.memory.data.LevelConfig;
+import com.waifu.memory.systems.GameSession;
+import com.waifu.memory.utils.Constants;
+import org.junit.Test;
+
+/**
+ * Los contadores incrementales de CardStore (cartas sin emparejar, restantes por
+ * personaje, personajes con cartas y con par) deben coincidir con recorrer todo el
+ * tablero tras cada emparejado, fallo y barajado de una partida con semilla fija.
+ */
+public class CardStoreCountersTest {
+
+    private static final float STEP = 0.05f;
+
+    @Test
+    public void countersMatchFullScanThroughMatchesAndShuffles() {
+        LevelConfig config = new LevelConfig();
+        config.gridSize = 6;
+        config.poolCount = 18;
+        config.shuffle = true;
+        config.shuffleInterval = 2;
+
+        GameSession session = new GameSession(config, 100000f, 1, 12345L);
+        GameGrid grid = session.getGrid();
+        int cells = config.gridSize * config.gridSize;
+
+        assertCountersMatchScan(grid, cells);
+
+        int turn = 0;
+        while (!session.isFinished()) {
+            assertTrue("la partida no termina", turn < 500);
+
+            // Dos fallos por cada acierto: los fallos disparan el barajado de la sesión
+            boolean mismatch = turn % 3 != 2;
+            Card first = null;
+            Card second = null;
+            for (int c = 0; c < cells && second == null; c++) {
+                Card card = grid.getCardInCell(c);
+                if (card.isMatched()) continue;
+                if (first == null) {
+                    first = card;
+                } else if ((card.getCharacterId() == first.getCharacterId()) != mismatch) {
+                    second = card;
+                }
+            }
+            if (second == null) {
+                // Solo queda el último par: no hay fallo posible
+                mismatch = false;
+                for (int c = 0; c < cells && second == null; c++) {
+                    Card card = grid.getCardInCell(c);
+                    if (card != first && !card.isMatched() && card.getCharacterId() == first.getCharacterId()) {
+                        second = card;
+                    }
+                }
+            }
+
+            assertTrue(session.tapCard(first));
+            assertTrue(session.tapCard(second));
+            assertCountersMatchScan(grid, cells);
+
+            settle(session, grid);
+            assertCountersMatchScan(grid, cells);
+
+            // Barajado directo además del que hace la sesión tras los fallos
+            if (turn % 4 == 3) {
+                grid.shuffleUnmatched();
+                assertCountersMatchScan(grid, cells);
+                settle(session, grid);
+            }
+            turn++;
+        }
+
+        assertEquals(GameSession.State.VICTORY, session.getState());
+        assertTrue("la partida debía barajar", session.getShuffleCount() > 0);
+        assertEquals(0, grid.getUnmatchedCardCount());
+        assertCountersMatchScan(grid, cells);
+    }
+
+    /**
+     * Avanza hasta que se resuelve la comprobación y terminan los volteos.
+     */
+    private static void settle(GameSession session, GameGrid grid) {
+        for (int i = 0; i < 1000; i++) {
+            if (session.getState() != GameSession.State.CHECKING_MATCH && grid.getAnimatingCardCount() == 0) return;
+            session.update(STEP);
+        }
+        throw new AssertionError("las animaciones no terminan");
+    }
+
+    private static void assertCountersMatchScan(GameGrid grid, int cells) {
+        IntIntMap remaining = new IntIntMap();
+        int unmatched = 0;
+        for (int c = 0; c < cells; c++) {
+            Card card = grid.getCardInCell(c);
+            if (card.isMatched()) continue;
+            unmatched++;
+            remaining.getAndIncrement(card.getCharacterId(), 0, 1);
+        }
+
+        int charactersRemaining = 0;
+        int charactersWithPair = 0;
+        for (IntIntMap.Entry e : remaining.entries()) {
+            if (e.value > 0) charactersRemaining++;
+            if (e.value >= 2) charactersWithPair++;
+        }
+
+        assertEquals("unmatchedCount", unmatched, grid.getUnmatchedCardCount());
+        assertEquals("matched pairs", (cells - unmatched) / 2, grid.getMatchedPairs());
+        assertEquals("charactersRemaining", charactersRemaining, grid.getCharactersRemaining());
+        assertEquals("charactersWithPair", charactersWithPair, grid.getCharactersWithPair());
+        for (int id = 0; id < Constants.TOTAL_CHARACTERS; id++) {
+            assertEquals("remainingByCharacter[" + id + "]", remaining.get(id, 0), grid.getRemainingCount(id));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.waifu.memory.entities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.badlogic.gdx.math.RandomXS128;
+import java.lang.management.ManagementFactory;
+import org.junit.Test;
+
+/**
+ * shuffleUnmatched y triggerHintShake corren durante la partida: una vez calientes
+ * no deben asignar ni un byte por llamada.
+ */
+public class GameGridAllocationTest {
+
+    private static final int WARMUP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 1_000;
+    // Más largo que cualquier sacudida (HINT_SHAKE_DURATION)
+    private static final float SETTLE_SECONDS = 5f;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static GameGrid newGrid() {
+        int[] pool = new int[18];
+        for (int i = 0; i < pool.length; i++) pool[i] = i;
+        return new GameGrid(6, pool, new RandomXS128(42L));
+    }
+
+    private static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    @Test
+    public void shuffleUnmatchedDoesNotAllocate() {
+        GameGrid grid = newGrid();
+        assertTrue(grid.canShuffle());
+
+        for (int i = 0; i < WARMUP_CALLS; i++) grid.shuffleUnmatched();
+
+        long before = allocatedBytes();
+        for (int i = 0; i < MEASURED_CALLS; i++) grid.shuffleUnmatched();
+        long after = allocatedBytes();
+
+        assertEquals("bytes asignados en " + MEASURED_CALLS + " llamadas", 0L, after - before);
+    }
+
+    @Test
+    public void triggerHintShakeDoesNotAllocate() {
+        GameGrid grid = newGrid();
+        assertTrue(grid.canShowHint());
+
+        for (int i = 0; i < WARMUP_CALLS; i++) shakeAndSettle(grid);
+
+        int shaken = 0;
+        long before = allocatedBytes();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            if (shakeAndSettle(grid)) shaken++;
+        }
+        long after = allocatedBytes();
+
+        assertEquals(MEASURED_CALLS, shaken);
+        assertEquals("bytes asignados en " + MEASURED_CALLS + " llamadas", 0L, after - before);
+    }
+
+    /**
+     * triggerHintShake no descarta cartas que ya tiemblan; se deja terminar cada
+     * sacudida para medir el mismo camino que en partida, con el store en reposo.
+     */
+    private static boolean shakeAndSettle(GameGrid grid) {
+        boolean shaken = grid.triggerHintShake();
+        grid.update(SETTLE_SECONDS);
+        return shaken;
+    }
+
+    @Test
+    public void measurementItselfDoesNotAllocate() {
+        // Si la lectura del contador asignara, los dos tests de arriba no probarían nada
+        for (int i = 0; i < WARMUP_CALLS; i++) allocatedBytes();
+
+        long before = allocatedBytes();
+        long after = allocatedBytes();
+
+        assertEquals(0L, after - before);
+    }
+}
@@ -0,0 +1,121 @@
+package com.waifu.memory.replay;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.waifu.memory.data.LevelConfig;
+import com.waifu.memory.entities.Card;
+import com.waifu.memory.entities.GameGrid;
+import com.waifu.memory.systems.GameSession;
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Una partida grabada con frames de duración variable, barajados y pistas (también
+ * pistas rechazadas) se reproduce a otro ritmo de pantalla y acaba exactamente igual:
+ * mismo reparto en cada celda, mismo estado y mismo tiempo de juego.
+ */
+public class ReplayDeterminismTest {
+
+    private static final long SEED = 987654321L;
+    private static final float MAX_TIME = 100000f;
+    private static final int MAX_FRAMES = 200_000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static LevelConfig config() {
+        LevelConfig config = new LevelConfig();
+        config.gridSize = 6;
+        config.poolCount = 18;
+        config.shuffle = true;
+        config.shuffleInterval = 4;
+        return config;
+    }
+
+    @Test
+    public void replayReproducesLayoutAndState() {
+        GameSession live = new GameSession(config(), MAX_TIME, 1, SEED);
+        ReplayRecorder recorder = new ReplayRecorder(1, SEED, MAX_TIME);
+        live.setRecorder(recorder);
+
+        int failedHints = playBot(live, new Random(7L));
+        assertEquals(GameSession.State.VICTORY, live.getState());
+        assertTrue("la partida debía barajar", live.getShuffleCount() > 0);
+        assertTrue("alguna pista debía rechazarse", failedHints > 0);
+
+        // Ida y vuelta por el formato binario
+        FileHandle file = new FileHandle(new java.io.File(folder.getRoot(), "game.iqr"));
+        assertTrue(recorder.getReplay().write(file));
+        Replay replay = Replay.read(file);
+        assertNotNull(replay);
+        assertEquals(recorder.getReplay().size(), replay.size());
+
+        GameSession replayed = new GameSession(config(), replay.getMaxTime(), 1, replay.getSeed());
+        ReplayPlayer player = new ReplayPlayer(replay, replayed);
+        for (int frame = 0; frame < MAX_FRAMES && !player.isDone(); frame++) {
+            player.update(1f / 60f);
+        }
+        assertTrue("la repetición no termina", player.isDone());
+
+        assertEquals(live.getState(), replayed.getState());
+        assertEquals(live.getPairsFound(), replayed.getPairsFound());
+        assertEquals(live.getShuffleCount(), replayed.getShuffleCount());
+        assertEquals(live.getHintsLeft(), replayed.getHintsLeft());
+        assertEquals(Float.floatToIntBits(live.getElapsedTime()), Float.floatToIntBits(replayed.getElapsedTime()));
+        assertEquals(Float.floatToIntBits(live.getTimeLeft()), Float.floatToIntBits(replayed.getTimeLeft()));
+        assertLayoutEquals(live.getGrid(), replayed.getGrid());
+    }
+
+    /**
+     * Juega con frames de 5 a 50 ms: toca cartas al azar (la mitad de las veces la
+     * pareja de la primera) y pide pistas al final, cuando muchas deben rechazarse.
+     *
+     * @return pistas pedidas que la sesión rechazó
+     */
+    private static int playBot(GameSession session, Random random) {
+        GameGrid grid = session.getGrid();
+        int cells = grid.getGridSize() * grid.getGridSize();
+        Card first = null;
+        int failedHints = 0;
+
+        for (int frame = 0; frame < MAX_FRAMES && !session.isFinished(); frame++) {
+            if (session.getState() == GameSession.State.PLAYING) {
+                if (grid.getUnmatchedCardCount() <= 8 && random.nextInt(20) == 0) {
+                    if (!session.applyHint()) failedHints++;
+                }
+
+                Card pick = null;
+                if (first != null && first.isRevealed() && random.nextBoolean()) {
+                    pick = findPartner(grid, cells, first);
+                }
+                if (pick == null) pick = grid.getCardInCell(random.nextInt(cells));
+                if (session.tapCard(pick)) first = first == null ? pick : null;
+            } else {
+                first = null;
+            }
+
+            session.update(0.005f + random.nextFloat() * 0.045f);
+        }
+        return failedHints;
+    }
+
+    private static Card findPartner(GameGrid grid, int cells, Card card) {
+        for (int c = 0; c < cells; c++) {
+            Card other = grid.getCardInCell(c);
+            if (other != card && !other.isMatched() && other.getCharacterId() == card.getCharacterId()) return other;
+        }
+        return null;
+    }
+
+    private static void assertLayoutEquals(GameGrid expected, GameGrid actual) {
+        int cells = expected.getGridSize() * expected.getGridSize();
+        for (int c = 0; c < cells; c++) {
+            assertEquals("celda " + c, expected.getCardInCell(c).getCharacterId(), actual.getCardInCell(c).getCharacterId());
+        }
+    }
+}
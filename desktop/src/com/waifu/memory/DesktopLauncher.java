@@ -3,6 +3,7 @@ package com.waifu.memory;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 import com.waifu.memory.utils.Constants;
+import java.io.File;
 
 /**
  * Launcher para pruebas en Desktop (PC)
@@ -27,7 +28,16 @@ public class DesktopLauncher {
         config.useVsync(true);
         config.setForegroundFPS(60);
         
+        IQWaifuMemory game = new IQWaifuMemory();
+        
+        // --replay <archivo>: reproduce una partida grabada (p. ej. la enviada por un jugador)
+        for (int i = 0; i < args.length - 1; i++) {
+            if ("--replay".equals(args[i])) {
+                game.setStartupReplay(new File(args[i + 1]).getAbsolutePath());
+            }
+        }
+        
         // Iniciar juego sin AdHandler (null) ya que no hay ads en desktop
-        new Lwjgl3Application(new IQWaifuMemory(), config);
+        new Lwjgl3Application(game, config);
     }
 }
\ No newline at end of file
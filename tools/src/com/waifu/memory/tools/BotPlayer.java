@@ -0,0 +1,191 @@
+package com.waifu.memory.tools;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.IntArray;
+import com.waifu.memory.entities.Card;
+import com.waifu.memory.entities.GameGrid;
+import com.waifu.memory.systems.GameSession;
+import java.util.Arrays;
+
+/**
+ * Jugador simulado con memoria limitada. Recuerda el personaje de las últimas
+ * celdas vistas (las más antiguas se olvidan), a veces se equivoca al recordar
+ * y tarda un tiempo fijo entre toques. Un barajado le hace olvidarlo todo.
+ * No es thread-safe: una instancia por hilo.
+ */
+final class BotPlayer {
+
+    static final class Profile {
+        final String name;
+        final int memorySlots;    // celdas que recuerda a la vez
+        final float recallError;  // probabilidad de ignorar un par conocido
+        final float tapDelay;     // segundos entre toques
+
+        Profile(String name, int memorySlots, float recallError, float tapDelay) {
+            this.name = name;
+            this.memorySlots = memorySlots;
+            this.recallError = recallError;
+            this.tapDelay = tapDelay;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    static final Profile PERFECT = new Profile("perfect", Integer.MAX_VALUE, 0f, 0.4f);
+    static final Profile GOOD = new Profile("good", 12, 0.05f, 0.7f);
+    static final Profile CASUAL = new Profile("casual", 6, 0.15f, 1.0f);
+
+    static Profile findProfile(String name) {
+        if (PERFECT.name.equals(name)) return PERFECT;
+        if (GOOD.name.equals(name)) return GOOD;
+        if (CASUAL.name.equals(name)) return CASUAL;
+        return null;
+    }
+
+    private static final int UNKNOWN = -1;
+    private static final float RETRY_STEP = 0.05f;
+
+    private final Profile profile;
+    private final RandomXS128 random = new RandomXS128();
+
+    private int[] knownId = new int[0];
+    private final IntArray remembered = new IntArray();
+    private int[] scratch = new int[0];
+
+    private int pendingCell;
+    private int lastShuffleCount;
+
+    BotPlayer(Profile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * Juega la sesión hasta la victoria o la derrota (sin tiempo extra ni pistas).
+     */
+    void play(GameSession session, long seed) {
+        random.setSeed(seed);
+
+        GameGrid grid = session.getGrid();
+        int cells = grid.getGridSize() * grid.getGridSize();
+        if (knownId.length < cells) {
+            knownId = new int[cells];
+            scratch = new int[cells];
+        }
+        Arrays.fill(knownId, 0, cells, UNKNOWN);
+        remembered.clear();
+        pendingCell = UNKNOWN;
+        lastShuffleCount = 0;
+
+        while (!session.isFinished()) {
+            if (session.getState() == GameSession.State.CHECKING_MATCH) {
+                session.update(session.getCheckTimer());
+                continue;
+            }
+
+            if (session.getShuffleCount() != lastShuffleCount) {
+                lastShuffleCount = session.getShuffleCount();
+                forgetAll();
+            }
+
+            session.update(profile.tapDelay);
+            if (session.getState() != GameSession.State.PLAYING) continue;
+
+            int cell = chooseCell(grid, cells);
+            if (cell == UNKNOWN || !session.tapCell(cell)) {
+                // Cartas aún volviéndose boca abajo
+                session.update(RETRY_STEP);
+                continue;
+            }
+
+            remember(cell, grid.getCardInCell(cell).getCharacterId());
+            pendingCell = session.getState() == GameSession.State.PLAYING ? cell : UNKNOWN;
+        }
+    }
+
+    private int chooseCell(GameGrid grid, int cells) {
+        forgetMatched(grid);
+
+        if (pendingCell != UNKNOWN) {
+            int partner = findKnown(knownId[pendingCell], pendingCell);
+            if (partner != UNKNOWN && !misremembers()) return partner;
+            return pickUnknown(grid, cells, pendingCell);
+        }
+
+        int first = findKnownPair();
+        if (first != UNKNOWN && !misremembers()) return first;
+        return pickUnknown(grid, cells, UNKNOWN);
+    }
+
+    private boolean misremembers() {
+        return profile.recallError > 0f && random.nextFloat() < profile.recallError;
+    }
+
+    private void remember(int cell, int characterId) {
+        remembered.removeValue(cell);
+        remembered.add(cell);
+        knownId[cell] = characterId;
+
+        while (remembered.size > profile.memorySlots) {
+            knownId[remembered.removeIndex(0)] = UNKNOWN;
+        }
+    }
+
+    private void forgetAll() {
+        for (int i = 0; i < remembered.size; i++) knownId[remembered.get(i)] = UNKNOWN;
+        remembered.clear();
+    }
+
+    private void forgetMatched(GameGrid grid) {
+        for (int i = remembered.size - 1; i >= 0; i--) {
+            int cell = remembered.get(i);
+            if (grid.getCardInCell(cell).isMatched()) {
+                knownId[cell] = UNKNOWN;
+                remembered.removeIndex(i);
+            }
+        }
+    }
+
+    private int findKnown(int characterId, int exceptCell) {
+        for (int i = 0; i < remembered.size; i++) {
+            int cell = remembered.get(i);
+            if (cell != exceptCell && knownId[cell] == characterId) return cell;
+        }
+        return UNKNOWN;
+    }
+
+    private int findKnownPair() {
+        for (int i = 0; i < remembered.size; i++) {
+            int cell = remembered.get(i);
+            if (findKnown(knownId[cell], cell) != UNKNOWN) return cell;
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Celda al azar que se puede tocar; prefiere las que no recuerda.
+     */
+    private int pickUnknown(GameGrid grid, int cells, int exceptCell) {
+        int unknown = 0;
+        int tappable = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            if (cell == exceptCell) continue;
+            Card card = grid.getCardInCell(cell);
+            if (card.isMatched() || card.isRevealed() || card.isAnimating()) continue;
+
+            // Desconocidas al principio del buffer, conocidas al final
+            if (knownId[cell] == UNKNOWN) {
+                scratch[tappable++] = scratch[unknown];
+                scratch[unknown++] = cell;
+            } else {
+                scratch[tappable++] = cell;
+            }
+        }
+
+        if (unknown > 0) return scratch[random.nextInt(unknown)];
+        if (tappable > 0) return scratch[random.nextInt(tappable)];
+        return UNKNOWN;
+    }
+}
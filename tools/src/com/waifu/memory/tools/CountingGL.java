@@ -0,0 +1,95 @@
+package com.waifu.memory.tools;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+/**
+ * GL20 falso para el backend headless: no dibuja nada, devuelve ids válidos,
+ * da por buenos shaders y framebuffers y cuenta las llamadas que cuestan en GPU
+ * (draw calls, binds de textura y cambios de shader).
+ * El proxy asigna el array de argumentos en cada llamada; ScreenHarness lo
+ * calibra con calls y lo descuenta de las asignaciones por frame.
+ */
+final class CountingGL implements InvocationHandler {
+
+    int drawCalls;
+    int textureBinds;
+    int programSwitches;
+    int vertices;
+    int calls;
+
+    private int nextId = 1;
+
+    static CountingGL install() {
+        CountingGL counter = new CountingGL();
+        GL20 gl = (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class}, counter);
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+        return counter;
+    }
+
+    void reset() {
+        drawCalls = 0;
+        textureBinds = 0;
+        programSwitches = 0;
+        vertices = 0;
+        calls = 0;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        calls++;
+        String name = method.getName();
+        switch (name) {
+            case "glDrawArrays":
+                drawCalls++;
+                vertices += (Integer) args[2];
+                return null;
+            case "glDrawElements":
+                drawCalls++;
+                vertices += (Integer) args[1];
+                return null;
+            case "glBindTexture":
+                textureBinds++;
+                return null;
+            case "glUseProgram":
+                programSwitches++;
+                return null;
+            case "glGetShaderiv":
+            case "glGetProgramiv":
+                int pname = (Integer) args[1];
+                if (pname == GL20.GL_COMPILE_STATUS || pname == GL20.GL_LINK_STATUS) ((IntBuffer) args[2]).put(0, 1);
+                return null;
+            case "glGetIntegerv":
+                if ((Integer) args[0] == GL20.GL_MAX_TEXTURE_SIZE) ((IntBuffer) args[1]).put(0, 4096);
+                return null;
+            case "glCheckFramebufferStatus":
+                return GL20.GL_FRAMEBUFFER_COMPLETE;
+            case "glGenTexture":
+            case "glGenBuffer":
+            case "glGenFramebuffer":
+            case "glGenRenderbuffer":
+            case "glCreateProgram":
+            case "glCreateShader":
+                return nextId++;
+            case "glGetUniformLocation":
+            case "glGetAttribLocation":
+                return 0; // distinto de -1: ShaderProgram pedante no falla
+            default:
+                return defaultValue(method.getReturnType());
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == void.class) return null;
+        if (type == int.class) return 0;
+        if (type == boolean.class) return false;
+        if (type == float.class) return 0f;
+        if (type == String.class) return "";
+        return null;
+    }
+}
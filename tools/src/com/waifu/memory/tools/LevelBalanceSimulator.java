@@ -0,0 +1,232 @@
+package com.waifu.memory.tools;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.waifu.memory.data.LevelConfig;
+import com.waifu.memory.data.LevelDatabase;
+import com.waifu.memory.data.PlayerData;
+import com.waifu.memory.systems.GameSession;
+import com.waifu.memory.utils.Constants;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Simulación Monte Carlo del balance de niveles: juega cada nivel con cada tier de
+ * tiempo de PlayerData muchas veces con un bot y saca la tasa de victoria y la
+ * distribución del tiempo restante. Las partidas se reparten en un ForkJoinPool;
+ * cada hoja usa su propio bot y sus propias estadísticas, así que escala con los núcleos.
+ *
+ * Uso: ./gradlew :tools:simulateLevels -PsimArgs="--games 2000 --bot good --levels 1-100"
+ *
+ * Opciones:
+ *   --games N        partidas por nivel y tier (por defecto 1000)
+ *   --levels A-B     rango de niveles (por defecto 1-TOTAL_LEVELS)
+ *   --tiers A-B      tiers de tiempo de PlayerData (por defecto 0-MAX_TIME_LEVEL)
+ *   --bot NOMBRE     perfect, good o casual (por defecto good)
+ *   --seed N         semilla base; la misma semilla repite los resultados
+ *   --threads N      hilos del pool (por defecto todos los núcleos)
+ *   --levels-file F  levels.json a usar (por defecto assets/data/levels.json)
+ *   --out F          CSV de salida (por defecto la salida estándar)
+ */
+public final class LevelBalanceSimulator {
+
+    private static final int LEAF_GAMES = 256;
+
+    private LevelBalanceSimulator() {
+    }
+
+    public static void main(String[] args) {
+        int games = 1000;
+        int firstLevel = 1;
+        int lastLevel = Constants.TOTAL_LEVELS;
+        int firstTier = 0;
+        int lastTier = Constants.MAX_TIME_LEVEL;
+        BotPlayer.Profile profile = BotPlayer.GOOD;
+        long seed = 0x5EEDL;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String levelsFile = "assets/" + Constants.LEVELS_JSON_PATH;
+        String out = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            if (value == null) usage("Missing value for " + arg);
+            i++;
+
+            switch (arg) {
+                case "--games":
+                    games = Integer.parseInt(value);
+                    break;
+                case "--levels":
+                    firstLevel = rangeStart(value);
+                    lastLevel = rangeEnd(value);
+                    break;
+                case "--tiers":
+                    firstTier = rangeStart(value);
+                    lastTier = rangeEnd(value);
+                    break;
+                case "--bot":
+                    profile = BotPlayer.findProfile(value);
+                    if (profile == null) usage("Unknown bot: " + value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(value);
+                    break;
+                case "--levels-file":
+                    levelsFile = value;
+                    break;
+                case "--out":
+                    out = value;
+                    break;
+                default:
+                    usage("Unknown option: " + arg);
+            }
+        }
+
+        firstLevel = Math.max(1, firstLevel);
+        lastLevel = Math.min(Constants.TOTAL_LEVELS, lastLevel);
+        firstTier = Math.max(0, firstTier);
+        lastTier = Math.min(Constants.TIME_VALUES.length - 1, lastTier);
+        if (games <= 0 || threads <= 0 || firstLevel > lastLevel || firstTier > lastTier) {
+            usage("Empty simulation");
+        }
+
+        // LevelDatabase no es thread-safe: las configuraciones se leen antes de repartir
+        LevelDatabase database = new LevelDatabase(new FileHandle(new File(levelsFile)));
+        List<SimulationTask> tasks = new ArrayList<>();
+        for (int level = firstLevel; level <= lastLevel; level++) {
+            LevelConfig config = database.get(level);
+            for (int tier = firstTier; tier <= lastTier; tier++) {
+                PlayerData player = new PlayerData();
+                player.timeBonusLevel = tier;
+                float maxTime = player.getCurrentBaseTime() + config.timeBonusSeconds;
+                if (maxTime <= 0f) maxTime = 30f;
+
+                long taskSeed = mix(seed ^ mix(level * 31L + tier));
+                tasks.add(new SimulationTask(config, tier, maxTime, player.getCurrentPairValue(),
+                    profile, taskSeed, 0, games));
+            }
+        }
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            for (SimulationTask task : tasks) pool.execute(task);
+
+            PrintStream stream = out != null ? new PrintStream(new File(out), "UTF-8") : System.out;
+            try {
+                printHeader(stream);
+                for (SimulationTask task : tasks) printRow(stream, task.config, profile, task.join());
+            } finally {
+                if (stream != System.out) stream.close();
+            }
+        } catch (IOException e) {
+            usage("Cannot write " + out + ": " + e.getMessage());
+        } finally {
+            pool.shutdown();
+        }
+
+        long totalGames = (long) games * tasks.size();
+        float seconds = (System.nanoTime() - start) / 1e9f;
+        System.err.printf(Locale.ROOT, "%d games on %d threads in %.2fs (%.0f games/s)%n",
+            totalGames, threads, seconds, totalGames / Math.max(seconds, 1e-6f));
+    }
+
+    /**
+     * Juega las partidas [from, to) de un nivel y tier; divide en dos por encima de LEAF_GAMES.
+     */
+    static final class SimulationTask extends RecursiveTask<LevelStats> {
+
+        final LevelConfig config;
+        final int tier;
+        final float maxTime;
+        final int pairValue;
+        final BotPlayer.Profile profile;
+        final long seed;
+        final int from, to;
+
+        SimulationTask(LevelConfig config, int tier, float maxTime, int pairValue,
+                       BotPlayer.Profile profile, long seed, int from, int to) {
+            this.config = config;
+            this.tier = tier;
+            this.maxTime = maxTime;
+            this.pairValue = pairValue;
+            this.profile = profile;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected LevelStats compute() {
+            if (to - from > LEAF_GAMES) {
+                int mid = (from + to) >>> 1;
+                SimulationTask left = new SimulationTask(config, tier, maxTime, pairValue, profile, seed, from, mid);
+                SimulationTask right = new SimulationTask(config, tier, maxTime, pairValue, profile, seed, mid, to);
+                left.fork();
+                LevelStats stats = right.compute();
+                return stats.merge(left.join());
+            }
+
+            LevelStats stats = new LevelStats(config.level, tier, maxTime);
+            BotPlayer bot = new BotPlayer(profile);
+            for (int game = from; game < to; game++) {
+                // La semilla depende solo del índice: el reparto de trabajo no cambia el resultado
+                long gameSeed = mix(seed + game);
+                GameSession session = new GameSession(config, maxTime, pairValue, gameSeed);
+                bot.play(session, ~gameSeed);
+
+                stats.addGame(session.getState() == GameSession.State.VICTORY,
+                    session.getTimeLeft(), session.getElapsedTime(), session.getPairsFound());
+            }
+            return stats;
+        }
+    }
+
+    private static void printHeader(PrintStream out) {
+        out.println("level,grid,shuffle,shuffleInterval,tier,maxTime,bot,games,winRate,"
+            + "timeLeftP10,timeLeftP50,timeLeftP90,avgWinSeconds,avgPairs");
+    }
+
+    private static void printRow(PrintStream out, LevelConfig config, BotPlayer.Profile profile, LevelStats stats) {
+        out.printf(Locale.ROOT, "%d,%d,%b,%d,%d,%.0f,%s,%d,%.4f,%d,%d,%d,%.1f,%.2f%n",
+            stats.level, config.gridSize, config.shuffle, config.shuffleInterval,
+            stats.timeTier, stats.maxTime, profile, stats.games, stats.winRate(),
+            stats.timeLeftPercentile(0.1f), stats.timeLeftPercentile(0.5f), stats.timeLeftPercentile(0.9f),
+            stats.averageWinTime(), stats.averagePairs());
+    }
+
+    private static int rangeStart(String range) {
+        int dash = range.indexOf('-');
+        return Integer.parseInt(dash < 0 ? range : range.substring(0, dash));
+    }
+
+    private static int rangeEnd(String range) {
+        int dash = range.indexOf('-');
+        return Integer.parseInt(dash < 0 ? range : range.substring(dash + 1));
+    }
+
+    /**
+     * Mezcla de splitmix64 para derivar semillas independientes.
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static void usage(String error) {
+        System.err.println(error);
+        System.err.println("Usage: LevelBalanceSimulator [--games N] [--levels A-B] [--tiers A-B]"
+            + " [--bot perfect|good|casual] [--seed N] [--threads N] [--levels-file F] [--out F]");
+        System.exit(1);
+    }
+}
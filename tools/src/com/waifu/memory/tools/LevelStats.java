@@ -0,0 +1,75 @@
+package com.waifu.memory.tools;
+
+/**
+ * Resultados agregados de un nivel con un tier de tiempo y un perfil de bot.
+ * Cada hoja del fork/join rellena la suya y después se combinan con merge().
+ */
+final class LevelStats {
+
+    final int level;
+    final int timeTier;
+    final float maxTime;
+
+    int games;
+    int wins;
+    long pairsFound;
+    double elapsedOnWins;
+
+    // Histograma de segundos restantes en las victorias (el último cubo acumula el resto)
+    final int[] timeLeftHistogram;
+
+    LevelStats(int level, int timeTier, float maxTime) {
+        this.level = level;
+        this.timeTier = timeTier;
+        this.maxTime = maxTime;
+        this.timeLeftHistogram = new int[(int) Math.ceil(maxTime) + 1];
+    }
+
+    void addGame(boolean won, float timeLeft, float elapsed, int pairs) {
+        games++;
+        pairsFound += pairs;
+        if (!won) return;
+
+        wins++;
+        elapsedOnWins += elapsed;
+        int bucket = Math.min(timeLeftHistogram.length - 1, Math.max(0, (int) timeLeft));
+        timeLeftHistogram[bucket]++;
+    }
+
+    LevelStats merge(LevelStats other) {
+        games += other.games;
+        wins += other.wins;
+        pairsFound += other.pairsFound;
+        elapsedOnWins += other.elapsedOnWins;
+        for (int i = 0; i < timeLeftHistogram.length; i++) {
+            timeLeftHistogram[i] += other.timeLeftHistogram[i];
+        }
+        return this;
+    }
+
+    float winRate() {
+        return games > 0 ? wins / (float) games : 0f;
+    }
+
+    float averagePairs() {
+        return games > 0 ? pairsFound / (float) games : 0f;
+    }
+
+    float averageWinTime() {
+        return wins > 0 ? (float) (elapsedOnWins / wins) : 0f;
+    }
+
+    /**
+     * Percentil (0..1) de los segundos restantes en las victorias, o -1 sin victorias.
+     */
+    int timeLeftPercentile(float p) {
+        if (wins == 0) return -1;
+        int target = Math.max(1, (int) Math.ceil(wins * p));
+        int seen = 0;
+        for (int i = 0; i < timeLeftHistogram.length; i++) {
+            seen += timeLeftHistogram[i];
+            if (seen >= target) return i;
+        }
+        return timeLeftHistogram.length - 1;
+    }
+}
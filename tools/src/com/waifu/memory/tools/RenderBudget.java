@@ -0,0 +1,120 @@
+package com.waifu.memory.tools;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Límites de coste de render por pantalla para ScreenHarness. Los valores de
+ * referencia se graban con --write-baseline en un CSV "screen,metric,value" que se
+ * versiona; --check vuelve a medir y falla si alguna métrica pasa de su límite.
+ *
+ * Las cuentas de GL son deterministas con el guion fijo del harness, así que no
+ * pueden subir nada. Las asignaciones y los frames bajo demanda dependen del JIT y
+ * de los hilos de carga: tienen un margen relativo más uno absoluto.
+ */
+final class RenderBudget {
+
+    static final String DRAW_CALLS_MAX = "drawCallsMax";
+    static final String TEXTURE_BINDS_MAX = "textureBindsMax";
+    static final String PROGRAM_SWITCHES_AVG = "programSwitchesAvg";
+    static final String ALLOC_BYTES_AVG = "allocBytesAvg";
+    static final String FRAMES_ON_DEMAND = "framesOnDemand";
+
+    private final Map<String, Float> measured = new LinkedHashMap<>();
+    // Fallos que no dependen de la referencia
+    private final List<String> failures = new ArrayList<>();
+
+    void put(String screen, String metric, float value) {
+        measured.put(screen + "," + metric, value);
+    }
+
+    /**
+     * Un menú bajo demanda que dibuja tantos frames como en continuo no ahorra nada:
+     * se ha colado algo que pide frames sin parar (una animación que no termina, un
+     * listener que marca sucio cada frame...).
+     */
+    void requireOnDemandSavings(String screen, long framesOnDemand, long framesContinuous) {
+        if (framesOnDemand >= framesContinuous) {
+            failures.add(String.format(Locale.ROOT,
+                "Render on demand saves nothing on %s: %d frames (continuous %d)",
+                screen, framesOnDemand, framesContinuous));
+        }
+    }
+
+    private static float tolerance(String metric, float baseline) {
+        switch (metric) {
+            case ALLOC_BYTES_AVG:
+                return baseline * 0.10f + 64f;
+            case FRAMES_ON_DEMAND:
+                return baseline * 0.10f + 2f;
+            default:
+                // Medias de cuentas enteras: solo el redondeo del CSV
+                return 0.05f;
+        }
+    }
+
+    void write(File file) throws IOException {
+        try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+            out.println("# screen,metric,value (ScreenHarness --write-baseline)");
+            for (Map.Entry<String, Float> e : measured.entrySet()) {
+                out.printf(Locale.ROOT, "%s,%.2f%n", e.getKey(), e.getValue());
+            }
+        }
+    }
+
+    /**
+     * Compara lo medido con la referencia e imprime cada métrica fuera de límite.
+     *
+     * @return true si todo está dentro del presupuesto
+     */
+    boolean check(File file) throws IOException {
+        for (String failure : failures) System.err.println(failure);
+
+        if (!file.exists()) {
+            System.err.println("No render baseline at " + file.getPath()
+                + "; record one with ./gradlew :tools:writeRenderBaseline");
+            return false;
+        }
+
+        Map<String, Float> baseline = new LinkedHashMap<>();
+        try (BufferedReader in = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                int comma = line.lastIndexOf(',');
+                baseline.put(line.substring(0, comma), Float.parseFloat(line.substring(comma + 1)));
+            }
+        }
+
+        boolean ok = failures.isEmpty();
+        for (Map.Entry<String, Float> e : baseline.entrySet()) {
+            Float value = measured.get(e.getKey());
+            if (value == null) {
+                System.err.println("Render budget: " + e.getKey() + " was not measured");
+                ok = false;
+                continue;
+            }
+            String metric = e.getKey().substring(e.getKey().lastIndexOf(',') + 1);
+            float limit = e.getValue() + tolerance(metric, e.getValue());
+            if (value > limit) {
+                System.err.printf(Locale.ROOT, "Render budget exceeded: %s = %.2f (baseline %.2f, limit %.2f)%n",
+                    e.getKey(), value, e.getValue(), limit);
+                ok = false;
+            }
+        }
+        for (String key : measured.keySet()) {
+            if (!baseline.containsKey(key)) System.out.println("Render budget: no baseline for " + key);
+        }
+        if (ok) System.out.println("Render budget OK (" + baseline.size() + " metrics)");
+        return ok;
+    }
+}
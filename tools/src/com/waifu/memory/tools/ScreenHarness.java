@@ -0,0 +1,478 @@
+package com.waifu.memory.tools;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.waifu.memory.IQWaifuMemory;
+import com.waifu.memory.data.LevelConfig;
+import com.waifu.memory.data.LevelDatabase;
+import com.waifu.memory.entities.Card;
+import com.waifu.memory.entities.GameGrid;
+import com.waifu.memory.screens.BaseScreen;
+import com.waifu.memory.screens.GalleryScreen;
+import com.waifu.memory.screens.GameScreen;
+import com.waifu.memory.screens.HomeScreen;
+import com.waifu.memory.screens.LevelSelectScreen;
+import com.waifu.memory.screens.SettingsScreen;
+import com.waifu.memory.screens.UpgradesScreen;
+import com.waifu.memory.utils.Constants;
+import com.waifu.memory.utils.PlaceholderTextures;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+/**
+ * Ejecuta pantallas reales sobre el backend headless con un GL20 falso y mide por
+ * frame draw calls, binds de textura, cambios de shader y bytes asignados en el
+ * hilo de render. La entrada es un guion fijo por pantalla, así que dos ejecuciones
+ * con el mismo código dan los mismos números de GL.
+ * Las cargas asíncronas de AssetManager corren en otros hilos y no se cuentan.
+ *
+ * Después compara las pantallas de menú con render continuo y bajo demanda: en el
+ * segundo modo solo se dibujan los ticks en los que la pantalla pidió un frame, como
+ * haría el backend con setContinuousRendering(false). El ahorro de batería se estima
+ * con el tiempo de CPU y las draw calls por segundo. Con --check también falla si
+ * algún menú dibuja bajo demanda tantos frames como en continuo.
+ *
+ * Con --startup N mide antes N arranques de IQWaifuMemory.create() sin la caché de
+ * placeholders (cold) y con ella (warm). La fila inline es la referencia anterior a la
+ * caché: generar los placeholders en el hilo de render, que create() hacía siempre
+ * (ahora además escribe la caché, así que la referencia queda algo por encima).
+ *
+ * Con --check <csv> falla (código de salida 1) si alguna pantalla pasa de los límites
+ * de RenderBudget respecto a la referencia; --write-baseline <csv> graba esa referencia.
+ *
+ * Uso: ./gradlew :tools:screenHarness [-PharnessArgs="--frames 600 --level 61 --startup 10"]
+ *      ./gradlew :tools:checkRenderBudget
+ */
+public final class ScreenHarness {
+
+    private static final float FRAME_DELTA = 1f / 60f;
+    private static final int SCREEN_WIDTH = (int) Constants.WORLD_WIDTH;
+    private static final int SCREEN_HEIGHT = (int) Constants.WORLD_HEIGHT;
+
+    private ScreenHarness() {
+    }
+
+    /**
+     * Una pantalla y el guion de toques que recibe en cada frame.
+     */
+    private abstract static class Scenario {
+        final String name;
+
+        Scenario(String name) {
+            this.name = name;
+        }
+
+        abstract BaseScreen create(IQWaifuMemory game);
+
+        abstract void input(int frame, InputProcessor input);
+    }
+
+    public static void main(String[] args) {
+        int frames = 300;
+        int warmup = 120;
+        int level = 1;
+        int startup = 0;
+        String baselinePath = null;
+        boolean writeBaseline = false;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--frames":
+                    frames = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--warmup":
+                    warmup = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--level":
+                    level = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--startup":
+                    startup = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--check":
+                    baselinePath = args[i + 1];
+                    writeBaseline = false;
+                    break;
+                case "--write-baseline":
+                    baselinePath = args[i + 1];
+                    writeBaseline = true;
+                    break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    System.exit(1);
+            }
+        }
+
+        final int measuredFrames = frames;
+        final int warmupFrames = warmup;
+        final int levelNumber = level;
+        final int startupRuns = startup;
+        final File baselineFile = baselinePath != null ? new File(baselinePath) : null;
+        final boolean write = writeBaseline;
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1; // el harness avanza los frames a mano
+        config.preferencesDirectory = new File(System.getProperty("java.io.tmpdir"), "iqwaifu-harness").getPath();
+
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                try {
+                    // El backend headless no crea GL: antes de cualquier Texture, también al medir el arranque
+                    CountingGL gl = CountingGL.install();
+                    if (startupRuns > 0) measureStartup(startupRuns);
+                    RenderBudget budget = run(gl, levelNumber, warmupFrames, measuredFrames);
+
+                    if (baselineFile != null) {
+                        if (write) {
+                            budget.write(baselineFile);
+                            System.out.println("Render baseline written to " + baselineFile.getPath());
+                        } else if (!budget.check(baselineFile)) {
+                            System.exit(1);
+                        }
+                    }
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    System.exit(1);
+                } finally {
+                    Gdx.app.exit();
+                }
+            }
+        }, config);
+    }
+
+    private static RenderBudget run(CountingGL gl, int levelNumber, int warmup, int frames) {
+        RenderBudget budget = new RenderBudget();
+
+        IQWaifuMemory game = new IQWaifuMemory();
+        game.create();
+        // Todo desbloqueado para poder cambiar de pestaña en la selección de nivel
+        game.getPlayerData().maxLevelCompleted = Constants.TOTAL_LEVELS;
+
+        float glCallBytes = calibrateGlCallBytes(gl);
+
+        Scenario[] scenarios = {gameScenario(levelNumber), galleryScenario(), levelSelectScenario()};
+
+        System.out.println("screen,frames,drawCallsAvg,drawCallsMax,textureBindsAvg,textureBindsMax,"
+            + "programSwitchesAvg,verticesAvg,allocBytesAvg,allocBytesMax,cpuMsAvg");
+
+        for (Scenario scenario : scenarios) {
+            Screen previous = game.getScreen();
+            BaseScreen screen = scenario.create(game);
+            game.setScreen(screen);
+            screen.resize(SCREEN_WIDTH, SCREEN_HEIGHT);
+            if (previous != null && previous != screen) previous.dispose();
+
+            for (int f = 0; f < warmup; f++) frame(game, scenario, screen, f);
+
+            long drawSum = 0, bindSum = 0, programSum = 0, vertexSum = 0, allocSum = 0, nanosSum = 0;
+            int drawMax = 0, bindMax = 0;
+            long allocMax = 0;
+
+            for (int f = 0; f < frames; f++) {
+                gl.reset();
+                long allocBefore = allocatedBytes();
+                long start = System.nanoTime();
+
+                frame(game, scenario, screen, warmup + f);
+
+                long nanos = System.nanoTime() - start;
+                long alloc = Math.max(0L, allocatedBytes() - allocBefore - (long) (gl.calls * glCallBytes));
+
+                drawSum += gl.drawCalls;
+                bindSum += gl.textureBinds;
+                programSum += gl.programSwitches;
+                vertexSum += gl.vertices;
+                allocSum += alloc;
+                nanosSum += nanos;
+                drawMax = Math.max(drawMax, gl.drawCalls);
+                bindMax = Math.max(bindMax, gl.textureBinds);
+                allocMax = Math.max(allocMax, alloc);
+            }
+
+            System.out.printf(Locale.ROOT, "%s,%d,%.1f,%d,%.1f,%d,%.1f,%.0f,%.0f,%d,%.3f%n",
+                scenario.name, frames,
+                drawSum / (float) frames, drawMax,
+                bindSum / (float) frames, bindMax,
+                programSum / (float) frames, vertexSum / (float) frames,
+                allocSum / (float) frames, allocMax,
+                nanosSum / 1e6f / frames);
+
+            budget.put(scenario.name, RenderBudget.DRAW_CALLS_MAX, drawMax);
+            budget.put(scenario.name, RenderBudget.TEXTURE_BINDS_MAX, bindMax);
+            budget.put(scenario.name, RenderBudget.PROGRAM_SWITCHES_AVG, programSum / (float) frames);
+            budget.put(scenario.name, RenderBudget.ALLOC_BYTES_AVG, allocSum / (float) frames);
+        }
+
+        Scenario[] menus = {homeScenario(), upgradesScenario(), settingsScenario(), levelSelectScenario()};
+
+        System.out.println();
+        System.out.println("screen,ticks,framesContinuous,framesOnDemand,cpuMsPerSecContinuous,cpuMsPerSecOnDemand,"
+            + "drawCallsPerSecContinuous,drawCallsPerSecOnDemand");
+
+        for (Scenario scenario : menus) {
+            long[] continuous = runTicks(game, gl, scenario, warmup, frames, false);
+            long[] onDemand = runTicks(game, gl, scenario, warmup, frames, true);
+            float seconds = frames * FRAME_DELTA;
+
+            System.out.printf(Locale.ROOT, "%s,%d,%d,%d,%.2f,%.2f,%.1f,%.1f%n",
+                scenario.name, frames, continuous[0], onDemand[0],
+                continuous[1] / 1e6f / seconds, onDemand[1] / 1e6f / seconds,
+                continuous[2] / seconds, onDemand[2] / seconds);
+
+            budget.put(scenario.name, RenderBudget.FRAMES_ON_DEMAND, onDemand[0]);
+            budget.requireOnDemandSavings(scenario.name, onDemand[0], continuous[0]);
+        }
+
+        game.dispose();
+        return budget;
+    }
+
+    /**
+     * Arranques completos con y sin caché de placeholders, y la generación en el hilo
+     * de render que hacía create() antes de la caché. El primer arranque de cada modo
+     * se descarta para no medir la carga de clases.
+     */
+    private static void measureStartup(int runs) {
+        FileHandle cache = Gdx.files.local(Constants.PLACEHOLDER_CACHE_PATH);
+
+        System.out.println("startup,runs,msAvg,msMin");
+
+        long[] inline = new long[runs + 1];
+        for (int r = 0; r <= runs; r++) {
+            cache.delete();
+            PlaceholderTextures placeholders = new PlaceholderTextures();
+            long start = System.nanoTime();
+            placeholders.init(Constants.ASSET_CARD_WIDTH, Constants.ASSET_CARD_HEIGHT, Constants.VARIANTS_PER_CHARACTER);
+            inline[r] = System.nanoTime() - start;
+            placeholders.dispose();
+        }
+        printStartup("placeholdersInline", inline);
+
+        long[] cold = new long[runs + 1];
+        for (int r = 0; r <= runs; r++) {
+            cache.delete();
+            cold[r] = timeCreate();
+        }
+        printStartup("createCold", cold);
+
+        long[] warm = new long[runs + 1];
+        for (int r = 0; r <= runs; r++) {
+            // El arranque anterior dejó la caché escrita
+            warm[r] = timeCreate();
+        }
+        printStartup("createWarm", warm);
+
+        System.out.println();
+    }
+
+    private static long timeCreate() {
+        IQWaifuMemory game = new IQWaifuMemory();
+        long start = System.nanoTime();
+        game.create();
+        long nanos = System.nanoTime() - start;
+        game.dispose();
+        return nanos;
+    }
+
+    private static void printStartup(String mode, long[] nanos) {
+        long sum = 0, min = Long.MAX_VALUE;
+        for (int r = 1; r < nanos.length; r++) {
+            sum += nanos[r];
+            min = Math.min(min, nanos[r]);
+        }
+        int runs = nanos.length - 1;
+        System.out.printf(Locale.ROOT, "%s,%d,%.1f,%.1f%n", mode, runs, sum / 1e6f / runs, min / 1e6f);
+    }
+
+    /**
+     * Ejecuta frames ticks de 1/60 s sobre una pantalla nueva. Con onDemand solo se
+     * dibujan los ticks en los que la pantalla pidió frame (entrada, animación, transición).
+     *
+     * @return {frames dibujados, nanos de CPU, draw calls}
+     */
+    private static long[] runTicks(IQWaifuMemory game, CountingGL gl, Scenario scenario,
+                                   int warmup, int ticks, boolean onDemand) {
+        Screen previous = game.getScreen();
+        BaseScreen screen = scenario.create(game);
+        game.setScreen(screen);
+        screen.resize(SCREEN_WIDTH, SCREEN_HEIGHT);
+        if (previous != null && previous != screen) previous.dispose();
+
+        long rendered = 0, nanos = 0, drawCalls = 0;
+        for (int t = 0; t < warmup + ticks; t++) {
+            gl.reset();
+            long start = System.nanoTime();
+
+            Screen current = game.getScreen();
+            InputProcessor input = current instanceof BaseScreen ? ((BaseScreen) current).getInputProcessor() : null;
+            if (current == screen && input != null) scenario.input(t, input);
+
+            boolean render = !onDemand || !(current instanceof BaseScreen) || ((BaseScreen) current).isFrameRequested();
+            if (render) {
+                game.getAssetManager().update();
+                game.getScreen().render(FRAME_DELTA);
+            }
+
+            if (t < warmup) continue;
+            nanos += System.nanoTime() - start;
+            if (render) rendered++;
+            drawCalls += gl.drawCalls;
+        }
+        return new long[]{rendered, nanos, drawCalls};
+    }
+
+    private static void frame(IQWaifuMemory game, Scenario scenario, BaseScreen screen, int frame) {
+        // Si el guion provoca un cambio de pantalla se sigue midiendo la nueva
+        Screen current = game.getScreen();
+        InputProcessor input = current instanceof BaseScreen ? ((BaseScreen) current).getInputProcessor() : null;
+        if (current == screen && input != null) scenario.input(frame, input);
+
+        // Igual que IQWaifuMemory.render() pero con delta fijo
+        game.getAssetManager().update();
+        game.getScreen().render(FRAME_DELTA);
+    }
+
+    /**
+     * Bytes que asigna el proxy de GL por llamada (array de argumentos), ya con el JIT caliente.
+     */
+    private static float calibrateGlCallBytes(CountingGL gl) {
+        int calls = 50_000;
+        for (int round = 0; round < 2; round++) {
+            gl.reset();
+            long before = allocatedBytes();
+            for (int i = 0; i < calls; i++) {
+                Gdx.gl.glBindTexture(GL20.GL_TEXTURE_2D, i & 7);
+                Gdx.gl.glDrawElements(GL20.GL_TRIANGLES, 6, GL20.GL_UNSIGNED_SHORT, 0);
+            }
+            if (round == 1) return (allocatedBytes() - before) / (float) gl.calls;
+        }
+        return 0f;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    // Coordenadas de mundo a pantalla: la pantalla mide lo mismo que el mundo, Y invertida
+    private static void tap(InputProcessor input, float worldX, float worldY) {
+        int x = (int) worldX;
+        int y = SCREEN_HEIGHT - (int) worldY;
+        input.touchDown(x, y, 0, 0);
+        input.touchUp(x, y, 0, 0);
+    }
+
+    private static Scenario gameScenario(final int levelNumber) {
+        final LevelConfig config = new LevelDatabase().get(levelNumber);
+        // Mismo layout que el grid de la pantalla: solo depende del tamaño
+        final GameGrid layout = new GameGrid(config.gridSize);
+        final int cells = config.gridSize * config.gridSize;
+
+        return new Scenario("GameScreen(level " + levelNumber + ")") {
+            @Override
+            BaseScreen create(IQWaifuMemory game) {
+                return new GameScreen(game, levelNumber);
+            }
+
+            @Override
+            void input(int frame, InputProcessor input) {
+                // Un toque cada 20 frames recorriendo las celdas con paso 7
+                if (frame % 20 != 0) return;
+                Card card = layout.getCardInCell((frame / 20 * 7) % cells);
+                tap(input, card.getX() + card.getWidth() / 2f, card.getY() + card.getHeight() / 2f);
+            }
+        };
+    }
+
+    private static Scenario galleryScenario() {
+        return new Scenario("GalleryScreen") {
+            @Override
+            BaseScreen create(IQWaifuMemory game) {
+                return new GalleryScreen(game);
+            }
+
+            @Override
+            void input(int frame, InputProcessor input) {
+                // Arrastres de 40 frames alternando hacia abajo y hacia arriba
+                int phase = frame % 80;
+                int x = SCREEN_WIDTH / 2;
+                int y = phase < 40 ? 1400 - phase * 20 : 600 + (phase - 40) * 20;
+                if (phase == 0 || phase == 40) input.touchDown(x, y, 0, 0);
+                else if (phase == 39 || phase == 79) input.touchUp(x, y, 0, 0);
+                else input.touchDragged(x, y, 0);
+            }
+        };
+    }
+
+    /**
+     * Toque en una zona sin botones cada input frames: la pantalla debe redibujar y volver a pararse.
+     */
+    private abstract static class IdleScenario extends Scenario {
+        private final int interval;
+
+        IdleScenario(String name, int interval) {
+            super(name);
+            this.interval = interval;
+        }
+
+        @Override
+        void input(int frame, InputProcessor input) {
+            if (frame % interval == interval - 1) tap(input, Constants.WORLD_WIDTH / 2f, 40f);
+        }
+    }
+
+    private static Scenario homeScenario() {
+        // Cada 10 s: el botón PLAY vuelve a latir HOME_PULSE_SECONDS
+        return new IdleScenario("HomeScreen", 600) {
+            @Override
+            BaseScreen create(IQWaifuMemory game) {
+                return new HomeScreen(game);
+            }
+        };
+    }
+
+    private static Scenario upgradesScenario() {
+        return new IdleScenario("UpgradesScreen", 120) {
+            @Override
+            BaseScreen create(IQWaifuMemory game) {
+                return new UpgradesScreen(game);
+            }
+        };
+    }
+
+    private static Scenario settingsScenario() {
+        return new IdleScenario("SettingsScreen", 120) {
+            @Override
+            BaseScreen create(IQWaifuMemory game) {
+                return new SettingsScreen(game);
+            }
+        };
+    }
+
+    private static Scenario levelSelectScenario() {
+        // Centros de las pestañas Fácil / Normal / Difícil
+        final float tabY = Constants.WORLD_HEIGHT - 160f;
+        final float[] tabX = {Constants.WORLD_WIDTH / 6f, Constants.WORLD_WIDTH / 2f, Constants.WORLD_WIDTH * 5f / 6f};
+
+        return new Scenario("LevelSelectScreen") {
+            @Override
+            BaseScreen create(IQWaifuMemory game) {
+                return new LevelSelectScreen(game);
+            }
+
+            @Override
+            void input(int frame, InputProcessor input) {
+                // Cambia de pestaña cada 60 frames
+                if (frame % 60 != 0) return;
+                tap(input, tabX[(frame / 60) % tabX.length], tabY);
+            }
+        };
+    }
+}